@@ -0,0 +1,196 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+
+
+/**
+ * BoardContext
+ * The evaluation of many Texas Hold'em hands (2 hole cards each) against one board of 3 to 5 cards:
+ * the board-only part is precomputed once - the per-rank card counters (as PokerHand._handCardRankingSum),
+ * the masks of the ranks of 2, 3 and 4 cards, and the only suit which can still make a Flush -
+ * and every pair of hole cards is evaluated as a delta of 2 cards to them (see HoldemEvaluator).
+ *
+ * It also gives the hand strength: the share of all opponent hands (e.g. 1081 on the flop)
+ * the hand beats, by a binary search in the sorted values of all hands on the board, computed once.
+ */
+public final class BoardContext
+{
+	private static final int MIN_BOARD_CARDS = 3;
+	private static final int MAX_BOARD_CARDS = 5;
+	private static final int CARDS_IN_HAND = 5;
+	private static final int SUIT_MASK_BITS = 16;
+	private static final int RANK_MASK = 0x1FFF;
+
+	private final long _boardCards;
+	private final long _rankCounts;
+	private final int _ranks;
+	private final int _ranks2;
+	private final int _ranks3;
+	private final int _ranks4;
+
+	/**
+	 * The suit of 3 or more board cards (at most one), or -1,
+	 * with the number and the rank mask of its board cards.
+	 */
+	private final int _flushSuit;
+	private final int _flushCount;
+	private final int _flushRanks;
+
+	/**
+	 * The sorted hand comparator values of all pairs of hole cards on the board, computed on demand.
+	 */
+	private volatile long _sortedKeys[] = null;
+
+
+	/**
+	 * Constructor
+	 *
+	 * @param board 3 to 5 board int cards (see PokerHandEvaluator).
+	 */
+	public BoardContext(int board[]) {
+		if (board.length < MIN_BOARD_CARDS || board.length > MAX_BOARD_CARDS) {
+			throw new IllegalArgumentException("The board must have 3 to 5 cards.");
+		}
+		_boardCards = HeadsUpEquity.addCards(0L, board);
+
+		long rankCounts = 0L;
+		int ranks = 0, ranks2 = 0, ranks3 = 0, ranks4 = 0;
+		long suitMasks = 0L;
+		for (int card : board) {
+			int rank = card >>> 2;
+			rankCounts += 1L << (4*rank);
+			int count = (int)(rankCounts >>> (4*rank)) & 0xF;
+			ranks |= 1 << rank;
+			if (count >= 2) ranks2 |= 1 << rank;
+			if (count >= 3) ranks3 |= 1 << rank;
+			if (count >= 4) ranks4 |= 1 << rank;
+			suitMasks |= HoldemEvaluator.suitMask(card);
+		}
+		_rankCounts = rankCounts;
+		_ranks = ranks;
+		_ranks2 = ranks2;
+		_ranks3 = ranks3;
+		_ranks4 = ranks4;
+
+		int flushSuit = -1, flushRanks = 0;
+		for (int suit=0; suit<4; suit++) {
+			int suitRanks = (int)(suitMasks >>> (SUIT_MASK_BITS*suit)) & RANK_MASK;
+			if (Integer.bitCount(suitRanks) >= CARDS_IN_HAND - 2) {
+				flushSuit = suit;
+				flushRanks = suitRanks;
+			}
+		}
+		_flushSuit = flushSuit;
+		_flushCount = Integer.bitCount(flushRanks);
+		_flushRanks = flushRanks;
+	}
+
+
+	/**
+	 * It returns the hand comparator value of the best 5-card hand of the hole int cards and the board
+	 * (see PokerHand.getComparator()), without allocating any objects.
+	 * The hole cards must not be on the board.
+	 */
+	public long evaluate(int c1, int c2) {
+		int r1 = c1 >>> 2, r2 = c2 >>> 2;
+		int bit1 = 1 << r1, bit2 = 1 << r2;
+		int n1 = ((int)(_rankCounts >>> (4*r1)) & 0xF) + 1;
+		int n2 = ((int)(_rankCounts >>> (4*r2)) & 0xF) + (r1 == r2 ? 2 : 1);
+
+		int ranks2 = _ranks2 | (n1 >= 2 ? bit1 : 0) | (n2 >= 2 ? bit2 : 0);
+		int ranks3 = _ranks3 | (n1 >= 3 ? bit1 : 0) | (n2 >= 3 ? bit2 : 0);
+		int ranks4 = _ranks4 | (n1 >= 4 ? bit1 : 0) | (n2 >= 4 ? bit2 : 0);
+
+		int flushRanks = 0;
+		if (_flushSuit >= 0) {
+			int count = _flushCount, suitRanks = _flushRanks;
+			if ((c1 & 0x3) == _flushSuit) { count++; suitRanks |= bit1; }
+			if ((c2 & 0x3) == _flushSuit) { count++; suitRanks |= bit2; }
+			if (count >= CARDS_IN_HAND) flushRanks = suitRanks;
+		}
+		return HoldemEvaluator.calcBestComparator(
+			_ranks | bit1 | bit2, ranks2 & ~ranks3, ranks3 & ~ranks4, ranks4, flushRanks);
+	}
+
+	public long evaluate(int hole[]) {
+		return evaluate(hole[0], hole[1]);
+	}
+
+
+	/**
+	 * It returns the hand strength of the hole int cards: the share of the opponent hands
+	 * (all pairs of the cards which are neither on the board nor in the hand) the hand beats, 
+	 * a tie counting as a half.
+	 */
+	public double handStrength(int c1, int c2) {
+		long hand = CompactHand.cardBit(c1) | CompactHand.cardBit(c2);
+		if (c1 == c2 || (hand & _boardCards) != 0) {
+			throw new IllegalArgumentException("Hole cards must be 2 distinct cards which are not on the board.");
+		}
+		long key = evaluate(c1, c2);
+		long sortedKeys[] = getSortedKeys();
+		long below = lowerBound(sortedKeys, key);
+		long equal = lowerBound(sortedKeys, key + 1) - below;
+
+		// The opponent hands which share a card with the hand are not counted.
+		int deck[] = HeadsUpEquity.remainingCards(_boardCards);
+		long blocked[] = { 0, 0 };
+		countBlocked(c1, c2, key, blocked);
+		for (int card : deck) {
+			if (card != c1 && card != c2) {
+				countBlocked(c1, card, key, blocked);
+				countBlocked(c2, card, key, blocked);
+			}
+		}
+		below -= blocked[0];
+		equal -= blocked[1];
+		int opponents = (deck.length - 2) * (deck.length - 3) / 2;
+		return (below + 0.5 * equal) / opponents;
+	}
+
+	private void countBlocked(int c1, int c2, long key, long blocked[]) {
+		long other = evaluate(c1, c2);
+		if (other < key) {
+			blocked[0]++;
+		} else if (other == key) {
+			blocked[1]++;
+		}
+	}
+
+	/**
+	 * It returns the number of the values of the sorted array less than the key.
+	 */
+	private static int lowerBound(long sorted[], long key) {
+		int low = 0, high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private long[] getSortedKeys() {
+		long sortedKeys[] = _sortedKeys;
+		if (sortedKeys == null) {
+			int deck[] = HeadsUpEquity.remainingCards(_boardCards);
+			sortedKeys = new long[deck.length * (deck.length - 1) / 2];
+			int n = 0;
+			for (int i=0; i<deck.length; i++) {
+				for (int j=i+1; j<deck.length; j++) {
+					sortedKeys[n++] = evaluate(deck[i], deck[j]);
+				}
+			}
+			Arrays.sort(sortedKeys);
+			_sortedKeys = sortedKeys;
+		}
+		return sortedKeys;
+	}
+}
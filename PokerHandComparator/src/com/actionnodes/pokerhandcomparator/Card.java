@@ -1,34 +1,119 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator;
-
-/**
- * Card
- */
-public class Card
-{
-	Suits _suit = Suits.UNKNOWN;
-	Ranks _rank = Ranks.UNKNOWN;
-	
-	/**
-	 * Constructor
-	 * 
-	 * @param suit
-	 * @param rank
-	 */
-	public Card(Suits suit, Ranks rank) {
-		if (Deck.getInstance().isAvailable(suit, rank)) {
-			_suit = suit;
-			_rank = rank;
-			Deck.getInstance().setAllocated(suit, rank);
-		} else {
-			throw new IllegalStateException("Card "+suit.name()+"-"+rank.name()+" is not available.");
-		}
-	}
-}
-
-
-
-
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+/**
+ * Card
+ * A card is immutable. There are only 52 distinct cards, so Card.of() returns one of 52 pre-built 
+ * shared instances and does not deal the card from any deck; dealing is tracked by the Deck of a game
+ * (see Deck.tryAllocate(Card)). The constructors create a new card and deal it from a deck, as before.
+ */
+public class Card
+{
+	final Suits _suit;
+	final Ranks _rank;
+	/**
+	 * The int card (see PokerHandEvaluator).
+	 */
+	final int _index;
+	
+	/**
+	 * The pre-built cards indexed by the int card.
+	 */
+	private static final Card CARDS[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+	static {
+		for (int c=0; c<CARDS.length; c++) {
+			CARDS[c] = new Card(c);
+		}
+	}
+	
+	/**
+	 * It returns the shared instance of the card.
+	 */
+	public static Card of(Suits suit, Ranks rank) {
+		return CARDS[PokerHandEvaluator.toCard(suit, rank)];
+	}
+	
+	/**
+	 * It returns the shared instance of the int card (see PokerHandEvaluator).
+	 */
+	public static Card of(int index) {
+		if (index < 0 || index >= CARDS.length) {
+			throw new IllegalArgumentException("Card "+index+" is not a card of the deck.");
+		}
+		return CARDS[index];
+	}
+	
+	/**
+	 * Constructor
+	 * It creates a card not dealt from any deck.
+	 */
+	private Card(int index) {
+		_suit = PokerHandEvaluator.suitOf(index);
+		_rank = PokerHandEvaluator.rankOf(index);
+		_index = index;
+	}
+	
+	/**
+	 * Constructor
+	 * It deals the card from the default deck (see Deck.getInstance()).
+	 * 
+	 * @param suit
+	 * @param rank
+	 */
+	public Card(Suits suit, Ranks rank) {
+		this(Deck.getInstance(), suit, rank);
+	}
+	
+	/**
+	 * Constructor
+	 * It deals the card from the specified deck (a deck of a game).
+	 * 
+	 * @param deck
+	 * @param suit
+	 * @param rank
+	 */
+	public Card(Deck deck, Suits suit, Ranks rank) {
+		_suit = suit;
+		_rank = rank;
+		_index = PokerHandEvaluator.toCard(suit, rank);
+		if (!deck.tryAllocate(_index)) {
+			throw new IllegalStateException("Card "+suit.name()+"-"+rank.name()+" is not available.");
+		}
+	}
+	
+	public Suits getSuit() {
+		return _suit;
+	}
+	
+	public Ranks getRank() {
+		return _rank;
+	}
+	
+	/**
+	 * It returns the int card (see PokerHandEvaluator).
+	 */
+	public int getIndex() {
+		return _index;
+	}
+	
+	/**
+	 * Cards of the same suit and rank are equal, whether they are shared instances or not.
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Card && ((Card)other)._index == _index;
+	}
+	
+	@Override
+	public int hashCode() {
+		return _index;
+	}
+	
+	/** @see java.lang.Object.toString() */
+	public String toString() {
+		return _suit.name()+"-"+_rank.name();
+	}
+}
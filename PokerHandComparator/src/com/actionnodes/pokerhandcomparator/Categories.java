@@ -1,24 +1,24 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator;
-
-/**
- * Categories
- * Hand Ranking Categories 
- */
-public enum Categories
-{ 
-	HC,	 	// High Card
-	P1,	 	// One Pair
-	P2,	 	// Two Pair
-	K3,	 	// Three of a Kind
-	S,	 	// Straight
-	F,	 	// Flush
-	FH,	 	// Full House
-	K4,	 	// Four of a Kind
-	SF,	 	// Straight Flush
-	UNKNOWN
-}
-
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+/**
+ * Categories
+ * Hand Ranking Categories 
+ */
+public enum Categories
+{ 
+	HC,	 	// High Card
+	P1,	 	// One Pair
+	P2,	 	// Two Pair
+	K3,	 	// Three of a Kind
+	S,	 	// Straight
+	F,	 	// Flush
+	FH,	 	// Full House
+	K4,	 	// Four of a Kind
+	SF,	 	// Straight Flush
+	UNKNOWN
+}
+
@@ -0,0 +1,176 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.actionnodes.pokerhandcomparator.PokerHandEvaluator.NO_RANK;
+
+
+/**
+ * CompactHand
+ * An immutable evaluated hand of two longs: the cards as a 52-bit mask 
+ * (bit (1L << card) for every int card, see PokerHandEvaluator) and the hand comparator value
+ * (the same as PokerHand.getComparator() returns, see PokerHand._comparator).
+ * The category, the ranks and the cards are decoded from the two longs on demand.
+ *
+ * A hand of 5 cards, or 6 or 7 cards (the best 5-card hand of them), is supported.
+ * See CompactHandList for storing many hands without the objects.
+ */
+public final class CompactHand
+	implements Comparable<CompactHand>
+{
+	private static final Categories CATEGORIES[] = Categories.values();
+	
+	/**
+	 * The number of the ranks in the hand comparator value (see PokerHand._comparator).
+	 */
+	private static final int COMPARATOR_RANKS = 5;
+	
+	private final long _cards;
+	private final long _comparator;
+	
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param cards The card mask.
+	 * @param comparator The hand comparator value of the cards.
+	 */
+	CompactHand(long cards, long comparator) {
+		_cards = cards;
+		_comparator = comparator;
+	}
+	
+	/**
+	 * It returns the compact form of the hand.
+	 */
+	public static CompactHand of(PokerHand hand) {
+		return new CompactHand(hand.getCardMask(), hand.getComparator());
+	}
+	
+	/**
+	 * It evaluates the hand of 5 to 7 distinct int cards.
+	 */
+	public static CompactHand of(int cards[]) {
+		long mask = 0L;
+		for (int card : cards) {
+			mask |= cardBit(card);
+		}
+		if (Long.bitCount(mask) != cards.length) {
+			throw new IllegalArgumentException("Cards of the hand are not distinct.");
+		}
+		return of(mask);
+	}
+	
+	/**
+	 * It evaluates the hand of the card mask of 5 to 7 cards.
+	 */
+	public static CompactHand of(long cards) {
+		int count = Long.bitCount(cards);
+		if (count < 5 || count > 7 || (cards >>> PokerHandEvaluator.CARDS_IN_DECK) != 0) {
+			throw new IllegalArgumentException("Cards do not make a 5- to 7-card poker hand.");
+		}
+		long suitMasks = 0L;
+		for (long rest = cards; rest != 0; rest &= rest - 1) {
+			suitMasks |= HoldemEvaluator.suitMask(Long.numberOfTrailingZeros(rest));
+		}
+		return new CompactHand(cards, HoldemEvaluator.calcBestComparator(suitMasks));
+	}
+	
+	/**
+	 * It returns the card bit of the int card in the card mask.
+	 */
+	public static long cardBit(int card) {
+		if (card < 0 || card >= PokerHandEvaluator.CARDS_IN_DECK) {
+			throw new IllegalArgumentException("Card "+card+" is not a card of the deck.");
+		}
+		return 1L << card;
+	}
+	
+	
+	public long getCardMask() {
+		return _cards;
+	}
+	
+	/**
+	 * It returns the hand comparator value (see PokerHand.getComparator()).
+	 */
+	public long getComparator() {
+		return _comparator;
+	}
+	
+	/**
+	 * It returns the hand ranking category, decoded from the hand comparator value.
+	 */
+	public Categories getCategory() {
+		return CATEGORIES[(int)(_comparator >>> (8*7))];
+	}
+	
+	/**
+	 * It returns the ranks of the hand comparator value (the category-dependent ranks followed by the kickers),
+	 * e.g. the rank of the Three of a Kind and the rank of the Pair for a Full House.
+	 */
+	public Ranks[] getRanks() {
+		Ranks ranks[] = new Ranks[COMPARATOR_RANKS];
+		int n = 0;
+		for (int i=0; i<COMPARATOR_RANKS; i++) {
+			int rank = (int)(_comparator >>> (8*(6-i))) & 0xFF;
+			if (rank != NO_RANK) {
+				ranks[n++] = Ranks.getElemValueByIdx(rank);
+			}
+		}
+		Ranks result[] = new Ranks[n];
+		System.arraycopy(ranks, 0, result, 0, n);
+		return result;
+	}
+	
+	/**
+	 * It returns the cards of the hand in the int card order.
+	 */
+	public List<Card> getCards() {
+		List<Card> cards = new ArrayList<Card>(Long.bitCount(_cards));
+		for (long rest = _cards; rest != 0; rest &= rest - 1) {
+			cards.add(Card.of(Long.numberOfTrailingZeros(rest)));
+		}
+		return cards;
+	}
+	
+	
+	/**
+	 * Compares the hands for order the same way as PokerHand.compareHands() does.
+	 */
+	public static int compareHands(CompactHand h1, CompactHand h2) {
+		return Long.compare(h1._comparator, h2._comparator);
+	}
+	
+	/** @see java.lang.Comparable<CompactHand> */
+	@Override
+	public int compareTo(CompactHand h) {
+		return compareHands(this, h);
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof CompactHand 
+			&& ((CompactHand)other)._cards == _cards 
+			&& ((CompactHand)other)._comparator == _comparator;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Long.hashCode(_cards * 31 + _comparator);
+	}
+	
+	/** @see java.lang.Object.toString() */
+	public String toString() {
+		String string = "";
+		for (Card card : getCards()) {
+			string = string + " "+card+" ";
+		}
+		return string;
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * CompactHandList
+ * A growable list of evaluated hands stored as pairs of longs in a single long[]
+ * (the card mask and the hand comparator value of CompactHand), 16 bytes per hand with no objects.
+ * The hands may be read as the primitive values, or as CompactHand objects created on demand.
+ */
+public class CompactHandList
+	implements Iterable<CompactHand>
+{
+	private static final int DEFAULT_CAPACITY = 16;
+	
+	private long _data[];
+	private int _size = 0;
+	
+	
+	/**
+	 * Constructor
+	 */
+	public CompactHandList() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param capacity The initial number of hands.
+	 */
+	public CompactHandList(int capacity) {
+		_data = new long[2 * Math.max(capacity, 1)];
+	}
+	
+	
+	public void add(CompactHand hand) {
+		add(hand.getCardMask(), hand.getComparator());
+	}
+	
+	public void add(long cards, long comparator) {
+		if (2 * _size == _data.length) {
+			_data = Arrays.copyOf(_data, 2 * _data.length);
+		}
+		_data[2 * _size] = cards;
+		_data[2 * _size + 1] = comparator;
+		_size++;
+	}
+	
+	public int size() {
+		return _size;
+	}
+	
+	public void clear() {
+		_size = 0;
+	}
+	
+	/**
+	 * It releases the unused capacity.
+	 */
+	public void trimToSize() {
+		_data = Arrays.copyOf(_data, 2 * Math.max(_size, 1));
+	}
+	
+	public long getCardMask(int index) {
+		return _data[2 * checkIndex(index)];
+	}
+	
+	public long getComparator(int index) {
+		return _data[2 * checkIndex(index) + 1];
+	}
+	
+	/**
+	 * It returns the hand as a new CompactHand object.
+	 */
+	public CompactHand get(int index) {
+		return new CompactHand(getCardMask(index), getComparator(index));
+	}
+	
+	/**
+	 * It compares two hands of the list the same way as PokerHand.compareHands() does.
+	 */
+	public int compare(int index1, int index2) {
+		return Long.compare(getComparator(index1), getComparator(index2));
+	}
+	
+	private int checkIndex(int index) {
+		if (index < 0 || index >= _size) {
+			throw new IndexOutOfBoundsException("Index "+index+" is out of the list size "+_size+".");
+		}
+		return index;
+	}
+	
+	/** @see java.lang.Iterable<CompactHand> */
+	@Override
+	public Iterator<CompactHand> iterator() {
+		return new Iterator<CompactHand>() {
+			private int _next = 0;
+			
+			@Override
+			public boolean hasNext() {
+				return _next < _size;
+			}
+			
+			@Override
+			public CompactHand next() {
+				if (_next >= _size) {
+					throw new NoSuchElementException();
+				}
+				return get(_next++);
+			}
+		};
+	}
+}
@@ -1,75 +1,178 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator;
-
-import java.util.HashMap;
-
-import com.actionnodes.pokerhandcomparator.Ranks;
-import com.actionnodes.pokerhandcomparator.Suits;
-
-
-/**
- * Deck
- */
-public class Deck
-{
-	///// Singleton implementation. /////
-	private Deck() {
-	}
-	private static Deck instance = null;
-	public static Deck getInstance() {
-		if (instance == null) {
-			instance = new Deck();
-		}
-		return instance;
-	}
-	/////
-	
-	/**
-	 * This flag controls if it is possible for two or more players to obtain the same hand
-	 * like in community-card games (such as Texas Hold 'em) or games with wildcards or multiple decks.
-	 * We set its default value to not allow duplicate hands.
-	 */
-	private static boolean DUPLICATE_CARDS_NOT_ALLOWED = true;
-	public static boolean isDUPLICATE_CARDS_NOT_ALLOWED() {
-		return DUPLICATE_CARDS_NOT_ALLOWED;
-	}
-	public static void setDUPLICATE_CARDS_NOT_ALLOWED(boolean notAllowed) {
-		DUPLICATE_CARDS_NOT_ALLOWED = notAllowed;
-	}
-	
-	
-	// Data representation.
-	private HashMap<String,Card> _cardsUnavailable = new HashMap<String,Card>();
-	
-	
-	// Method implementation.
-	public Card setAllocated(Card card) {
-		return _cardsUnavailable.put(card._suit.name()+card._rank.name(), card);
-	}
-	public Card setAllocated(Suits suit, Ranks rank) {
-		return _cardsUnavailable.put(suit.name()+rank.name(), null);
-	}
-	public Card setFreed(Card card) {
-		return _cardsUnavailable.remove(card._suit.name()+card._rank.name());
-	}
-	public void setFreedAll() {
-		_cardsUnavailable.clear();
-	}
-	public boolean isAvailable(Card card) {
-		return isAvailable(card._suit, card._rank);
-	}
-	public boolean isAvailable(Suits suit, Ranks rank) {
-		if (DUPLICATE_CARDS_NOT_ALLOWED) {
-			if (_cardsUnavailable.containsKey(suit.name()+rank.name())) {
-				return false;
-			} else {
-				return true;
-			}
-		} else {
-			return true;
-		}
-	}
-}
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+
+/**
+ * Deck
+ * It tracks the cards dealt from a 52-card deck. Every game (table) is supposed to have its own Deck,
+ * the shared default deck (getInstance()) is used by the Card(Suits, Ranks) constructor.
+ *
+ * The dealt cards are bits of a single long, indexed by the int card (see PokerHandEvaluator),
+ * which is updated atomically, so a Deck may be shared between threads, 
+ * and the availability check is O(1) and allocation-free.
+ */
+public class Deck
+{
+	///// Default deck implementation (thread-safe lazy initialization by the holder class). /////
+	private static class DefaultDeckHolder {
+		static final Deck instance = new Deck();
+	}
+	public static Deck getInstance() {
+		return DefaultDeckHolder.instance;
+	}
+	/////
+	
+	/**
+	 * Constructor
+	 * It creates a full deck which does not allow duplicate cards.
+	 */
+	public Deck() {
+		this(true);
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param duplicateCardsNotAllowed
+	 */
+	public Deck(boolean duplicateCardsNotAllowed) {
+		_duplicateCardsNotAllowed = duplicateCardsNotAllowed;
+	}
+	
+	/**
+	 * This flag controls if it is possible for two or more players to obtain the same hand
+	 * like in community-card games (such as Texas Hold 'em) or games with wildcards or multiple decks.
+	 * We set its default value to not allow duplicate hands.
+	 */
+	private volatile boolean _duplicateCardsNotAllowed = true;
+	public boolean isDuplicateCardsNotAllowed() {
+		return _duplicateCardsNotAllowed;
+	}
+	public void setDuplicateCardsNotAllowed(boolean notAllowed) {
+		_duplicateCardsNotAllowed = notAllowed;
+	}
+	
+	/**
+	 * The flag of the default deck (see getInstance()).
+	 */
+	public static boolean isDUPLICATE_CARDS_NOT_ALLOWED() {
+		return getInstance().isDuplicateCardsNotAllowed();
+	}
+	public static void setDUPLICATE_CARDS_NOT_ALLOWED(boolean notAllowed) {
+		getInstance().setDuplicateCardsNotAllowed(notAllowed);
+	}
+	
+	
+	// Data representation.
+	/**
+	 * The bit (1L << card) is set when the int card is dealt.
+	 */
+	private final AtomicLong _cardsUnavailable = new AtomicLong();
+	
+	
+	// Method implementation.
+	/**
+	 * It marks the card as dealt. It returns the card if it has already been dealt, otherwise null.
+	 */
+	public Card setAllocated(Card card) {
+		return allocate(card._index) ? null : card;
+	}
+	public Card setAllocated(Suits suit, Ranks rank) {
+		int card = PokerHandEvaluator.toCard(suit, rank);
+		return allocate(card) ? null : Card.of(card);
+	}
+	
+	/**
+	 * It returns the card to the deck. It returns the card if it has been dealt, otherwise null.
+	 */
+	public Card setFreed(Card card) {
+		return free(card._index) ? card : null;
+	}
+	public void setFreedAll() {
+		_cardsUnavailable.set(0L);
+	}
+	
+	/**
+	 * It marks the card as dealt, as setAllocated() does. It returns false if the card has already been dealt.
+	 */
+	public boolean allocate(Card card) {
+		return allocate(card._index);
+	}
+	public boolean allocate(Suits suit, Ranks rank) {
+		return allocate(PokerHandEvaluator.toCard(suit, rank));
+	}
+	public boolean allocate(int card) {
+		long bit = cardBit(card);
+		// The accumulators capture nothing, so they are shared, not allocated per call.
+		return (_cardsUnavailable.getAndAccumulate(bit, (dealt, b) -> dealt | b) & bit) == 0;
+	}
+	
+	/**
+	 * It returns the card to the deck, as setFreed() does. It returns false if the card has not been dealt.
+	 */
+	public boolean free(Card card) {
+		return free(card._index);
+	}
+	public boolean free(int card) {
+		long bit = cardBit(card);
+		return (_cardsUnavailable.getAndAccumulate(bit, (dealt, b) -> dealt & ~b) & bit) != 0;
+	}
+	
+	public boolean isAvailable(Card card) {
+		return isAvailable(card._index);
+	}
+	public boolean isAvailable(Suits suit, Ranks rank) {
+		return isAvailable(PokerHandEvaluator.toCard(suit, rank));
+	}
+	public boolean isAvailable(int card) {
+		return !_duplicateCardsNotAllowed || (_cardsUnavailable.get() & cardBit(card)) == 0;
+	}
+	
+	/**
+	 * It deals the card if it is available, as one atomic step (unlike isAvailable() followed by setAllocated()).
+	 * It returns false if the card is not available.
+	 */
+	public boolean tryAllocate(Card card) {
+		return tryAllocate(card._index);
+	}
+	public boolean tryAllocate(Suits suit, Ranks rank) {
+		return tryAllocate(PokerHandEvaluator.toCard(suit, rank));
+	}
+	public boolean tryAllocate(int card) {
+		long bit = cardBit(card);
+		while (true) {
+			long dealt = _cardsUnavailable.get();
+			if (_duplicateCardsNotAllowed && (dealt & bit) != 0) {
+				return false;
+			}
+			if ((dealt & bit) != 0 || _cardsUnavailable.compareAndSet(dealt, dealt | bit)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * It returns the bit of the int card in the dealt cards.
+	 */
+	private static long cardBit(int card) {
+		if (card < 0 || card >= PokerHandEvaluator.CARDS_IN_DECK) {
+			throw new IllegalArgumentException("Card "+card+" is not a card of the deck.");
+		}
+		return 1L << card;
+	}
+	
+	/**
+	 * It returns the dealt cards as bits of a long indexed by the int card (see PokerHandEvaluator).
+	 */
+	public long getDealtCards() {
+		return _cardsUnavailable.get();
+	}
+}
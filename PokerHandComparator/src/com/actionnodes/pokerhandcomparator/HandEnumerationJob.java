@@ -0,0 +1,214 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * HandEnumerationJob
+ * It enumerates all 2,598,960 distinct 5-card hands of the 52-card deck,
+ * evaluates every hand by the PokerHand class and produces
+ * the hand category histogram and the number of distinct hand comparator values
+ * (the number of hand equivalence classes, which must be 7462).
+ *
+ * The job is split across all cores by fork/join: the hands are grouped by their 2 lowest cards
+ * (1,326 groups), and the groups are split recursively between the fork/join tasks.
+ * So the job is both a correctness certificate of PokerHand and its throughput yardstick.
+ */
+public class HandEnumerationJob
+{
+	/**
+	 * The number of the hand groups a fork/join task evaluates by itself, without splitting.
+	 */
+	private static final int GROUPS_PER_TASK = 16;
+
+	/**
+	 * The cards of the hands, indexed by the int card (see PokerHandEvaluator).
+	 */
+	private final Card _cards[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+
+	/**
+	 * The 2 lowest int cards of every hand group.
+	 */
+	private final int _groups[][];
+
+
+	/**
+	 * Constructor
+	 */
+	public HandEnumerationJob()
+	{
+		for (int c=0; c<_cards.length; c++) {
+			_cards[c] = Card.of(c);
+		}
+
+		int n = PokerHandEvaluator.CARDS_IN_DECK;
+		_groups = new int[n*(n-1)/2][];
+		int g = 0;
+		for (int c1=0; c1<n; c1++) {
+			for (int c2=c1+1; c2<n; c2++) {
+				_groups[g++] = new int[] { c1, c2 };
+			}
+		}
+	}
+
+
+	/**
+	 * It runs the job in the common fork/join pool.
+	 */
+	public Result run() {
+		return run(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * It runs the job in the specified fork/join pool.
+	 */
+	public Result run(ForkJoinPool pool) {
+		long start = System.nanoTime();
+		Result result = pool.invoke(new EnumerationTask(0, _groups.length));
+		result._elapsedNanos = System.nanoTime() - start;
+		return result;
+	}
+
+
+	/**
+	 * Result
+	 * The hand category histogram and the distinct hand comparator values.
+	 */
+	public static class Result
+	{
+		private final long _categoryCounts[] = new long[Categories.values().length];
+		private long _distinctComparators[] = new long[0];
+		private long _elapsedNanos = 0;
+
+		/**
+		 * It returns the number of the hands of the specified category.
+		 */
+		public long getCount(Categories category) {
+			return _categoryCounts[category.ordinal()];
+		}
+
+		/**
+		 * It returns the number of all evaluated hands.
+		 */
+		public long getHands() {
+			long hands = 0;
+			for (long count : _categoryCounts) hands += count;
+			return hands;
+		}
+
+		/**
+		 * It returns the number of distinct hand comparator values.
+		 */
+		public int getDistinctComparators() {
+			return _distinctComparators.length;
+		}
+
+		public long getElapsedNanos() {
+			return _elapsedNanos;
+		}
+
+		public double getHandsPerSecond() {
+			return _elapsedNanos == 0 ? 0.0 : getHands() * 1e9 / _elapsedNanos;
+		}
+
+		/**
+		 * It adds up the other result into this one.
+		 */
+		private void merge(Result other) {
+			for (int i=0; i<_categoryCounts.length; i++) {
+				_categoryCounts[i] += other._categoryCounts[i];
+			}
+			_distinctComparators = mergeDistinct(_distinctComparators, other._distinctComparators);
+		}
+
+		/** @see java.lang.Object.toString() */
+		public String toString() {
+			StringBuilder string = new StringBuilder();
+			for (Categories category : Categories.values()) {
+				string.append(category.name()).append(": ").append(getCount(category)).append('\n');
+			}
+			string.append("Hands: ").append(getHands()).append('\n');
+			string.append("Distinct comparators: ").append(getDistinctComparators()).append('\n');
+			string.append("Elapsed: ").append(_elapsedNanos / 1000000).append(" ms\n");
+			string.append("Hands per second: ").append((long)getHandsPerSecond()).append('\n');
+			return string.toString();
+		}
+	}
+
+
+	/**
+	 * EnumerationTask
+	 * It evaluates the hands of the groups from the index from (inclusive) to the index to (exclusive).
+	 */
+	@SuppressWarnings("serial")
+	private class EnumerationTask extends RecursiveTask<Result>
+	{
+		private final int _from;
+		private final int _to;
+
+		EnumerationTask(int from, int to) {
+			_from = from;
+			_to = to;
+		}
+
+		@Override
+		protected Result compute() {
+			if (_to - _from > GROUPS_PER_TASK) {
+				int middle = (_from + _to) >>> 1;
+				EnumerationTask low = new EnumerationTask(_from, middle);
+				low.fork();
+				Result result = new EnumerationTask(middle, _to).compute();
+				result.merge(low.join());
+				return result;
+			}
+
+			Result result = new Result();
+			int n = PokerHandEvaluator.CARDS_IN_DECK;
+			for (int g=_from; g<_to; g++) {
+				int c1 = _groups[g][0];
+				int c2 = _groups[g][1];
+				long comparators[] = new long[(n-c2-1)*(n-c2-2)*(n-c2-3)/6];
+				int k = 0;
+				for (int c3=c2+1; c3<n; c3++)
+				for (int c4=c3+1; c4<n; c4++)
+				for (int c5=c4+1; c5<n; c5++) {
+					PokerHand hand = new PokerHand(_cards[c1], _cards[c2], _cards[c3], _cards[c4], _cards[c5]);
+					result._categoryCounts[hand.getCategory().ordinal()]++;
+					comparators[k++] = hand.getComparator();
+				}
+				Arrays.sort(comparators);
+				result._distinctComparators = mergeDistinct(result._distinctComparators, comparators);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * It merges two sorted arrays into a sorted array of their distinct values.
+	 */
+	private static long[] mergeDistinct(long a[], long b[]) {
+		long merged[] = new long[a.length + b.length];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length || j < b.length) {
+			long value = j == b.length || (i < a.length && a[i] <= b[j]) ? a[i++] : b[j++];
+			if (n == 0 || merged[n-1] != value) {
+				merged[n++] = value;
+			}
+		}
+		return Arrays.copyOf(merged, n);
+	}
+
+
+	/**
+	 * It runs the job and prints the result.
+	 */
+	public static void main(String[] args) {
+		System.out.print(new HandEnumerationJob().run());
+	}
+}
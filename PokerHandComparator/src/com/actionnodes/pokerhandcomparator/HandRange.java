@@ -0,0 +1,253 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * HandRange
+ * A Texas Hold'em hand range: weighted combos of 2 hole cards, each combo a card mask (see CompactHand).
+ *
+ * The range notation is a comma-separated list of:
+ *   TT, AKs, AKo, AK (suited and offsuit), AsKs (a single combo);
+ *   TT+ (TT to AA), AQs+ (AQs to AKs, the kicker up to the card below the high card);
+ *   TT-77, A9s-A2s (the kicker range), 76s-54s (the connectors of the same gap);
+ * each optionally followed by :weight (e.g. AKo:0.5), 1 by default.
+ * A combo of several items gets the weight of the last one.
+ */
+public final class HandRange
+{
+	private static final String RANK_CHARS = "23456789TJQKA";
+	private static final String SUIT_CHARS = "shdc";
+	private static final int SUITS = 4;
+
+	private final long _combos[];
+	private final double _weights[];
+
+
+	private HandRange(long combos[], double weights[]) {
+		_combos = combos;
+		_weights = weights;
+	}
+
+	/**
+	 * It parses the range notation.
+	 * It throws IllegalArgumentException if the notation is not valid.
+	 */
+	public static HandRange parse(String notation) {
+		Map<Long,Double> combos = new LinkedHashMap<Long,Double>();
+		for (String item : notation.split(",")) {
+			item = item.trim();
+			if (item.isEmpty()) {
+				continue;
+			}
+			double weight = 1.0;
+			int colon = item.indexOf(':');
+			if (colon >= 0) {
+				try {
+					weight = Double.parseDouble(item.substring(colon + 1).trim());
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Range item "+item+" has no valid weight.", e);
+				}
+				if (!Double.isFinite(weight)) {
+					throw new IllegalArgumentException("Range item "+item+" has a weight that is not finite.");
+				}
+				if (weight < 0.0) {
+					throw new IllegalArgumentException("Range item "+item+" has a negative weight.");
+				}
+				item = item.substring(0, colon).trim();
+			}
+			parseItem(item, weight, combos);
+		}
+
+		long masks[] = new long[combos.size()];
+		double weights[] = new double[combos.size()];
+		int n = 0;
+		for (Map.Entry<Long,Double> combo : combos.entrySet()) {
+			masks[n] = combo.getKey();
+			weights[n++] = combo.getValue();
+		}
+		return new HandRange(masks, weights);
+	}
+
+	private static void parseItem(String item, double weight, Map<Long,Double> combos) {
+		if (item.length() == 4 && SUIT_CHARS.indexOf(item.charAt(1)) >= 0 && SUIT_CHARS.indexOf(item.charAt(3)) >= 0) {
+			int c1 = card(item.charAt(0), item.charAt(1), item);
+			int c2 = card(item.charAt(2), item.charAt(3), item);
+			if (c1 == c2) {
+				throw new IllegalArgumentException("Range item "+item+" is not a combo of 2 cards.");
+			}
+			combos.put((1L << c1) | (1L << c2), weight);
+			return;
+		}
+
+		int dash = item.indexOf('-');
+		if (dash >= 0) {
+			int from[] = parseClass(item.substring(0, dash), item);
+			int to[] = parseClass(item.substring(dash + 1), item);
+			if (from[2] != to[2]) {
+				throw new IllegalArgumentException("Range item "+item+" mixes the suited, offsuit and pair hands.");
+			}
+			if (from[0] == to[0]) {
+				// The kicker range (including the pairs range, whose kicker goes with the high card).
+				for (int lo=Math.min(from[1], to[1]); lo<=Math.max(from[1], to[1]); lo++) {
+					addClass(from[2] == PAIR ? lo : from[0], lo, from[2], weight, combos);
+				}
+			} else if (from[0] - from[1] == to[0] - to[1] && from[2] != PAIR) {
+				// The connectors of the same gap.
+				int gap = from[0] - from[1];
+				for (int hi=Math.min(from[0], to[0]); hi<=Math.max(from[0], to[0]); hi++) {
+					addClass(hi, hi - gap, from[2], weight, combos);
+				}
+			} else if (from[2] == PAIR) {
+				for (int r=Math.min(from[0], to[0]); r<=Math.max(from[0], to[0]); r++) {
+					addClass(r, r, PAIR, weight, combos);
+				}
+			} else {
+				throw new IllegalArgumentException("Range item "+item+" is neither a kicker range nor a connector range.");
+			}
+			return;
+		}
+
+		boolean plus = item.endsWith("+");
+		int hand[] = parseClass(plus ? item.substring(0, item.length() - 1) : item, item);
+		if (!plus) {
+			addClass(hand[0], hand[1], hand[2], weight, combos);
+		} else if (hand[2] == PAIR) {
+			for (int r=hand[0]; r<RANK_CHARS.length(); r++) {
+				addClass(r, r, PAIR, weight, combos);
+			}
+		} else {
+			for (int lo=hand[1]; lo<hand[0]; lo++) {
+				addClass(hand[0], lo, hand[2], weight, combos);
+			}
+		}
+	}
+
+	/**
+	 * The kinds of the hand classes.
+	 */
+	private static final int PAIR = 0;
+	private static final int SUITED = 1;
+	private static final int OFFSUIT = 2;
+	private static final int ANY = 3;
+
+	/**
+	 * It parses a hand class like TT, AKs, AKo or AK.
+	 *
+	 * @return The high rank index, the low rank index and the kind of the class.
+	 */
+	private static int[] parseClass(String hand, String item) {
+		hand = hand.trim();
+		if (hand.length() < 2 || hand.length() > 3) {
+			throw new IllegalArgumentException("Range item "+item+" is not valid.");
+		}
+		int r1 = rank(hand.charAt(0), item);
+		int r2 = rank(hand.charAt(1), item);
+		int kind = ANY;
+		if (hand.length() == 3) {
+			char suitedness = Character.toLowerCase(hand.charAt(2));
+			if (suitedness == 's') {
+				kind = SUITED;
+			} else if (suitedness == 'o') {
+				kind = OFFSUIT;
+			} else {
+				throw new IllegalArgumentException("Range item "+item+" is not valid.");
+			}
+		}
+		if (r1 == r2) {
+			if (kind != ANY) {
+				throw new IllegalArgumentException("Range item "+item+" is a pair, which can be neither suited nor offsuit.");
+			}
+			kind = PAIR;
+		}
+		return new int[] { Math.max(r1, r2), Math.min(r1, r2), kind };
+	}
+
+	private static void addClass(int hi, int lo, int kind, double weight, Map<Long,Double> combos) {
+		for (int s1=0; s1<SUITS; s1++) {
+			for (int s2=(kind == PAIR ? s1 + 1 : 0); s2<SUITS; s2++) {
+				if ((kind == SUITED && s1 != s2) || (kind == OFFSUIT && s1 == s2)) {
+					continue;
+				}
+				combos.put((1L << ((hi << 2) | s1)) | (1L << ((lo << 2) | s2)), weight);
+			}
+		}
+	}
+
+	private static int rank(char rank, String item) {
+		int r = RANK_CHARS.indexOf(Character.toUpperCase(rank));
+		if (r < 0) {
+			throw new IllegalArgumentException("Range item "+item+" has an unknown rank "+rank+".");
+		}
+		return r;
+	}
+
+	private static int card(char rank, char suit, String item) {
+		return (rank(rank, item) << 2) | SUIT_CHARS.indexOf(suit);
+	}
+
+
+	/**
+	 * It returns the range without the combos which contain any of the cards of the card mask
+	 * (the dead cards, the board cards, or the cards of the other player - the blockers).
+	 */
+	public HandRange without(long cards) {
+		long combos[] = new long[_combos.length];
+		double weights[] = new double[_combos.length];
+		int n = 0;
+		for (int i=0; i<_combos.length; i++) {
+			if ((_combos[i] & cards) == 0) {
+				combos[n] = _combos[i];
+				weights[n++] = _weights[i];
+			}
+		}
+		return new HandRange(Arrays.copyOf(combos, n), Arrays.copyOf(weights, n));
+	}
+
+	/**
+	 * It returns the number of the combos.
+	 */
+	public int size() {
+		return _combos.length;
+	}
+
+	/**
+	 * It returns the card mask of the combo.
+	 */
+	public long getCombo(int index) {
+		return _combos[index];
+	}
+
+	public double getWeight(int index) {
+		return _weights[index];
+	}
+
+	/**
+	 * It returns the sum of the weights of the combos.
+	 */
+	public double getTotalWeight() {
+		double total = 0.0;
+		for (double weight : _weights) total += weight;
+		return total;
+	}
+
+	/** @see java.lang.Object.toString() */
+	public String toString() {
+		StringBuilder string = new StringBuilder();
+		for (int i=0; i<_combos.length; i++) {
+			if (i > 0) string.append(',');
+			int hi = 63 - Long.numberOfLeadingZeros(_combos[i]);
+			int lo = Long.numberOfTrailingZeros(_combos[i]);
+			string.append(RANK_CHARS.charAt(hi >>> 2)).append(SUIT_CHARS.charAt(hi & 0x3));
+			string.append(RANK_CHARS.charAt(lo >>> 2)).append(SUIT_CHARS.charAt(lo & 0x3));
+			if (_weights[i] != 1.0) string.append(':').append(_weights[i]);
+		}
+		return string.toString();
+	}
+}
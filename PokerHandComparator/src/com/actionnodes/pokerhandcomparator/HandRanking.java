@@ -0,0 +1,206 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * HandRanking
+ * The ranking of a large number of hands by their hand comparator values (see PokerHand.getComparator()),
+ * sorted as primitive longs instead of the hand objects: the order of the hands from the strongest one
+ * (a permutation of the hand indexes, the tied hands in the order of their indexes) and the dense rank
+ * of every hand (1 is the strongest, the tied hands share the rank, the next weaker hand gets the next rank).
+ *
+ * The comparator value of a hand has the category in the byte 7 and the card ranks in the bytes 6 to 2,
+ * all of them below 16, so it is packed into a 24-bit strength (a nibble per byte),
+ * and the strength is packed with the hand index into a long sort key (the inverted strength above the index),
+ * so the ascending order of the sort keys is the ranking order, ties included.
+ * The sort keys are sorted by Arrays.parallelSort(), or by the LSD radix sort of their 3 strength bytes
+ * (3 counting passes, skipping a byte all the keys share, e.g. the category byte of the hands of the same category).
+ */
+public class HandRanking
+{
+	/**
+	 * The bits of the strength.
+	 */
+	private static final int STRENGTH_BITS = 24;
+	private static final long STRENGTH_MASK = (1L << STRENGTH_BITS) - 1;
+
+	/**
+	 * The bits of the index in the sort key.
+	 */
+	private static final int INDEX_BITS = 32;
+
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+
+	/**
+	 * The hand indexes from the strongest hand, and the dense ranks of the hands by the hand index.
+	 */
+	private final int _order[];
+	private final int _ranks[];
+	private final int _distinctRanks;
+
+
+	private HandRanking(long sortKeys[]) {
+		int n = sortKeys.length;
+		_order = new int[n];
+		_ranks = new int[n];
+		int rank = 0;
+		long previous = -1;
+		for (int i=0; i<n; i++) {
+			long strength = sortKeys[i] >>> INDEX_BITS;
+			if (strength != previous) {
+				rank++;
+				previous = strength;
+			}
+			int index = (int)sortKeys[i];
+			_order[i] = index;
+			_ranks[index] = rank;
+		}
+		_distinctRanks = rank;
+	}
+
+
+	/**
+	 * It ranks the hands by their comparator values, sorted by Arrays.parallelSort().
+	 *
+	 * @param keys The hand comparator values of the hands.
+	 */
+	public static HandRanking rank(long keys[]) {
+		long sortKeys[] = sortKeys(keys);
+		Arrays.parallelSort(sortKeys);
+		return new HandRanking(sortKeys);
+	}
+
+	/**
+	 * It ranks the hands by their comparator values, sorted by the LSD radix sort.
+	 *
+	 * @param keys The hand comparator values of the hands.
+	 */
+	public static HandRanking rankRadix(long keys[]) {
+		long sortKeys[] = sortKeys(keys);
+		long buffer[] = new long[sortKeys.length];
+		int counts[] = new int[RADIX];
+		for (int shift=INDEX_BITS; shift<INDEX_BITS+STRENGTH_BITS; shift+=RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for (long key : sortKeys) {
+				counts[(int)(key >>> shift) & (RADIX - 1)]++;
+			}
+			if (sortKeys.length == 0 || counts[(int)(sortKeys[0] >>> shift) & (RADIX - 1)] == sortKeys.length) {
+				// All the keys share the byte.
+				continue;
+			}
+			for (int b=0, start=0; b<RADIX; b++) {
+				int count = counts[b];
+				counts[b] = start;
+				start += count;
+			}
+			for (long key : sortKeys) {
+				buffer[counts[(int)(key >>> shift) & (RADIX - 1)]++] = key;
+			}
+			long swap[] = sortKeys;
+			sortKeys = buffer;
+			buffer = swap;
+		}
+		return new HandRanking(sortKeys);
+	}
+
+	/**
+	 * It returns the comparator values of the hands.
+	 */
+	public static long[] keys(List<? extends PokerHand> hands) {
+		long keys[] = new long[hands.size()];
+		int i = 0;
+		for (PokerHand hand : hands) {
+			keys[i++] = hand.getComparator();
+		}
+		return keys;
+	}
+
+	/**
+	 * It returns the comparator values of the compact hands.
+	 */
+	public static long[] keys(CompactHandList hands) {
+		long keys[] = new long[hands.size()];
+		for (int i=0; i<keys.length; i++) {
+			keys[i] = hands.getComparator(i);
+		}
+		return keys;
+	}
+
+
+	/**
+	 * It returns the number of the ranked hands.
+	 */
+	public int size() {
+		return _order.length;
+	}
+
+	/**
+	 * It returns the hand indexes from the strongest hand (the tied hands in the order of their indexes).
+	 * The array is the ranking's own, it is not copied.
+	 */
+	public int[] getOrder() {
+		return _order;
+	}
+
+	/**
+	 * It returns the dense ranks of the hands by the hand index, 1 is the strongest.
+	 * The array is the ranking's own, it is not copied.
+	 */
+	public int[] getRanks() {
+		return _ranks;
+	}
+
+	/**
+	 * It returns the index of the hand at the position of the order, 0 is the strongest.
+	 */
+	public int getIndex(int position) {
+		return _order[position];
+	}
+
+	/**
+	 * It returns the dense rank of the hand of the index.
+	 */
+	public int getRank(int index) {
+		return _ranks[index];
+	}
+
+	/**
+	 * It returns the number of the distinct ranks (the rank of the weakest hands).
+	 */
+	public int getDistinctRanks() {
+		return _distinctRanks;
+	}
+
+
+	/**
+	 * It packs the hand comparator values with the hand indexes into the sort keys.
+	 */
+	private static long[] sortKeys(long keys[]) {
+		long sortKeys[] = new long[keys.length];
+		for (int i=0; i<keys.length; i++) {
+			sortKeys[i] = (STRENGTH_MASK - strength(keys[i])) << INDEX_BITS | i;
+		}
+		return sortKeys;
+	}
+
+	/**
+	 * It returns the 24-bit strength of the hand comparator value: the nibbles of its bytes 7 to 2.
+	 */
+	private static long strength(long key) {
+		if ((key & 0xF0F0F0F0F0F0FFFFL) != 0) {
+			throw new IllegalArgumentException(Long.toHexString(key)+" is not a hand comparator value.");
+		}
+		long strength = 0;
+		for (int shift=56; shift>=16; shift-=8) {
+			strength = (strength << 4) | ((key >>> shift) & 0xF);
+		}
+		return strength;
+	}
+}
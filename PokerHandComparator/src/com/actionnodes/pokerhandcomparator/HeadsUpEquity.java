@@ -0,0 +1,270 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * HeadsUpEquity
+ * The exact Texas Hold'em equity of two hands (2 hole cards each), by enumeration of all remaining runouts:
+ * 1,712,304 boards preflop, 990 on the flop, 44 on the turn.
+ * The showdowns compare the best 5-card hands in the PokerHand.compareHands() order.
+ *
+ * The runouts are split by their first 2 board cards between the tasks of a fork/join pool.
+ * Every board is evaluated from the per-suit rank masks of the cards (see HoldemEvaluator),
+ * which are combined incrementally card by card, so nothing is allocated per board.
+ */
+public final class HeadsUpEquity
+{
+	private HeadsUpEquity() {
+	}
+
+	private static final int HOLE_CARDS = 2;
+	private static final int BOARD_CARDS = 5;
+
+	/**
+	 * The number of the board prefixes a fork/join task enumerates by itself, without splitting.
+	 */
+	private static final int PREFIXES_PER_TASK = 8;
+
+
+	/**
+	 * It returns the equity of the hand A against the hand B, in the common fork/join pool.
+	 *
+	 * @param holeA The 2 hole int cards of the hand A (see PokerHandEvaluator).
+	 * @param holeB The 2 hole int cards of the hand B.
+	 * @param board 0 to 5 board int cards.
+	 * @param dead The int cards known to be out of the deck (e.g. folded), or null.
+	 */
+	public static Result equity(int holeA[], int holeB[], int board[], int dead[]) {
+		return equity(holeA, holeB, board, dead, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * It returns the equity of the hand A against the hand B, in the specified fork/join pool.
+	 */
+	public static Result equity(int holeA[], int holeB[], int board[], int dead[], ForkJoinPool pool) {
+		if (holeA.length != HOLE_CARDS || holeB.length != HOLE_CARDS || board.length > BOARD_CARDS) {
+			throw new IllegalArgumentException("Hands must have 2 hole cards and the board must have up to 5 cards.");
+		}
+		long used = addCards(0L, holeA);
+		used = addCards(used, holeB);
+		used = addCards(used, board);
+		if (dead != null) {
+			used = addCards(used, dead);
+		}
+
+		int deck[] = remainingCards(used);
+		int missing = BOARD_CARDS - board.length;
+		if (deck.length < missing) {
+			throw new IllegalArgumentException("Not enough cards left in the deck to complete the board.");
+		}
+		long boardMasks = suitMasks(board);
+		long masksA = suitMasks(holeA) | boardMasks;
+		long masksB = suitMasks(holeB) | boardMasks;
+
+		int prefixes[][] = boardPrefixes(deck.length, missing);
+		int prefixCards = prefixes[0].length;
+		return pool.invoke(new RunoutTask(deck, prefixes, missing - prefixCards, masksA, masksB, 0, prefixes.length));
+	}
+
+
+	/**
+	 * It adds the int cards to the card mask (see CompactHand).
+	 * It throws IllegalArgumentException if a card is not a card of the deck or is already in the mask.
+	 */
+	static long addCards(long used, int cards[]) {
+		for (int card : cards) {
+			long bit = CompactHand.cardBit(card);
+			if ((used & bit) != 0) {
+				throw new IllegalArgumentException("Card "+card+" is used more than once.");
+			}
+			used |= bit;
+		}
+		return used;
+	}
+
+	/**
+	 * It returns the int cards which are not in the card mask.
+	 */
+	static int[] remainingCards(long used) {
+		int deck[] = new int[PokerHandEvaluator.CARDS_IN_DECK - Long.bitCount(used)];
+		int n = 0;
+		for (int c=0; c<PokerHandEvaluator.CARDS_IN_DECK; c++) {
+			if ((used & (1L << c)) == 0) deck[n++] = c;
+		}
+		return deck;
+	}
+
+	/**
+	 * It returns the board prefixes, the indexes in the deck of the first min(2, missing) cards of the runouts,
+	 * which split the runouts between the fork/join tasks.
+	 */
+	static int[][] boardPrefixes(int deckLength, int missing) {
+		if (missing == 0) {
+			return new int[][] { {} };
+		}
+		if (missing == 1) {
+			int prefixes[][] = new int[deckLength][];
+			for (int i=0; i<deckLength; i++) prefixes[i] = new int[] { i };
+			return prefixes;
+		}
+		int prefixes[][] = new int[deckLength*(deckLength-1)/2][];
+		int p = 0;
+		for (int i=0; i<deckLength; i++)
+		for (int j=i+1; j<deckLength; j++) prefixes[p++] = new int[] { i, j };
+		return prefixes;
+	}
+
+	/**
+	 * It returns the per-suit rank masks of the int cards (see HoldemEvaluator).
+	 */
+	static long suitMasks(int cards[]) {
+		long masks = 0L;
+		for (int card : cards) {
+			masks |= HoldemEvaluator.suitMask(card);
+		}
+		return masks;
+	}
+
+
+	/**
+	 * Result
+	 * The numbers of the runouts the hand A wins, ties and loses.
+	 */
+	public static class Result
+	{
+		private long _wins = 0;
+		private long _ties = 0;
+		private long _losses = 0;
+
+		public long getWins() {
+			return _wins;
+		}
+
+		public long getTies() {
+			return _ties;
+		}
+
+		public long getLosses() {
+			return _losses;
+		}
+
+		/**
+		 * It returns the number of the enumerated boards.
+		 */
+		public long getBoards() {
+			return _wins + _ties + _losses;
+		}
+
+		public double getWinPercent() {
+			return 100.0 * _wins / getBoards();
+		}
+
+		public double getTiePercent() {
+			return 100.0 * _ties / getBoards();
+		}
+
+		public double getLossPercent() {
+			return 100.0 * _losses / getBoards();
+		}
+
+		/**
+		 * It returns the equity of the hand A, the share of the pot it wins on average (a tie splits the pot).
+		 */
+		public double getEquity() {
+			return (_wins + 0.5 * _ties) / getBoards();
+		}
+
+		private void merge(Result other) {
+			_wins += other._wins;
+			_ties += other._ties;
+			_losses += other._losses;
+		}
+
+		/** @see java.lang.Object.toString() */
+		public String toString() {
+			return String.format("Win: %.3f%% Tie: %.3f%% Loss: %.3f%% (%d boards)",
+				getWinPercent(), getTiePercent(), getLossPercent(), getBoards());
+		}
+	}
+
+
+	/**
+	 * RunoutTask
+	 * It enumerates the runouts of the board prefixes from the index from (inclusive) to the index to (exclusive),
+	 * completing every prefix by all combinations of the following deck cards.
+	 */
+	@SuppressWarnings("serial")
+	private static class RunoutTask extends RecursiveTask<Result>
+	{
+		private final int _deck[];
+		private final int _prefixes[][];
+		private final int _suffixCards;
+		private final long _masksA;
+		private final long _masksB;
+		private final int _from;
+		private final int _to;
+		private Result _result = null;
+
+		RunoutTask(int deck[], int prefixes[][], int suffixCards, long masksA, long masksB, int from, int to) {
+			_deck = deck;
+			_prefixes = prefixes;
+			_suffixCards = suffixCards;
+			_masksA = masksA;
+			_masksB = masksB;
+			_from = from;
+			_to = to;
+		}
+
+		@Override
+		protected Result compute() {
+			if (_to - _from > PREFIXES_PER_TASK) {
+				int middle = (_from + _to) >>> 1;
+				RunoutTask low = new RunoutTask(_deck, _prefixes, _suffixCards, _masksA, _masksB, _from, middle);
+				low.fork();
+				Result result = new RunoutTask(_deck, _prefixes, _suffixCards, _masksA, _masksB, middle, _to).compute();
+				result.merge(low.join());
+				return result;
+			}
+
+			_result = new Result();
+			for (int p=_from; p<_to; p++) {
+				int prefix[] = _prefixes[p];
+				long masks = 0L;
+				int next = 0;
+				for (int i : prefix) {
+					masks |= HoldemEvaluator.suitMask(_deck[i]);
+					next = i + 1;
+				}
+				enumerate(next, _suffixCards, masks);
+			}
+			return _result;
+		}
+
+		/**
+		 * It completes the board by the cards cards of the deck from the index from on, and evaluates the showdowns.
+		 */
+		private void enumerate(int from, int cards, long boardMasks) {
+			if (cards == 0) {
+				long a = HoldemEvaluator.calcBestComparator(_masksA | boardMasks);
+				long b = HoldemEvaluator.calcBestComparator(_masksB | boardMasks);
+				if (a > b) {
+					_result._wins++;
+				} else if (a == b) {
+					_result._ties++;
+				} else {
+					_result._losses++;
+				}
+				return;
+			}
+			for (int i=from; i<=_deck.length-cards; i++) {
+				enumerate(i + 1, cards - 1, boardMasks | HoldemEvaluator.suitMask(_deck[i]));
+			}
+		}
+	}
+}
@@ -0,0 +1,248 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import static com.actionnodes.pokerhandcomparator.PokerHandEvaluator.NO_RANK;
+import static com.actionnodes.pokerhandcomparator.PokerHandEvaluator.comparator;
+
+
+/**
+ * HoldemEvaluator
+ * Direct evaluation of the best 5-card hand of 7 int cards (Texas Hold'em: 2 hole cards and 5 board cards)
+ * in one pass, without evaluating the 21 5-card combinations.
+ *
+ * The cards are collected into 4 per-suit 13-bit rank masks.
+ * A suit mask of 5 or more cards gives a Flush or a Straight Flush;
+ * otherwise the hand is classified by the numbers of cards of every rank,
+ * which are counted bit-sliced over the suit masks, with no loop over the ranks.
+ * The result is the hand comparator value of the best 5-card hand,
+ * the same as PokerHand.getComparator() returns for it.
+ */
+public final class HoldemEvaluator
+{
+	private HoldemEvaluator() {
+	}
+
+	/**
+	 * A flush always consists of five cards.
+	 */
+	private static final int CARDS_IN_HAND = 5;
+
+	/**
+	 * The per-suit rank masks of the cards are packed into a long, 16 bits per suit.
+	 */
+	private static final int SUIT_MASK_BITS = 16;
+	private static final int RANK_MASK = 0x1FFF;
+
+	/**
+	 * The bits of the cards of the deck in the per-suit rank masks (the rank bits 0 to 12 of every suit).
+	 */
+	private static final long DECK_MASK = RANK_MASK * 0x0001000100010001L;
+
+
+	/**
+	 * It evaluates a 7-card hand without allocating any objects.
+	 *
+	 * @return The hand comparator value of the best 5-card hand of the 7 cards.
+	 */
+	public static long evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+		return calcBestComparator(
+			suitMask(c1) | suitMask(c2) | suitMask(c3) | suitMask(c4) |
+			suitMask(c5) | suitMask(c6) | suitMask(c7));
+	}
+
+	/**
+	 * It evaluates 2 hole cards and 5 board cards.
+	 */
+	public static long evaluate(int hole[], int board[]) {
+		return evaluate(hole[0], hole[1], board[0], board[1], board[2], board[3], board[4]);
+	}
+
+
+	/**
+	 * It evaluates a batch of 7-card hands in one tight loop, without allocating any objects.
+	 * The hands are interleaved; see evaluateBatchColumns() for the column layout.
+	 * It throws IllegalArgumentException if the cards of a hand are not 7 distinct cards of the deck.
+	 *
+	 * @param cards The int cards of the hands, 7 consecutive cards per hand.
+	 * @param offset The index of the first card of the first hand.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the best 5-card hands are put here, from the index 0.
+	 */
+	public static void evaluateBatch(int cards[], int offset, int count, long outKeys[]) {
+		PokerHandEvaluator.checkBatch(cards, offset, count, 7, outKeys);
+		for (int h=0, c=offset; h<count; h++, c+=7) {
+			outKeys[h] = calcBestComparator(checkBatchHand(
+				suitMask(cards[c]) | suitMask(cards[c+1]) | suitMask(cards[c+2]) | suitMask(cards[c+3]) |
+				suitMask(cards[c+4]) | suitMask(cards[c+5]) | suitMask(cards[c+6]),
+				cards[c] | cards[c+1] | cards[c+2] | cards[c+3] | cards[c+4] | cards[c+5] | cards[c+6]));
+		}
+	}
+
+
+	/**
+	 * It evaluates a batch of 7-card hands in the column layout, without allocating any objects:
+	 * the card i of the hand h is at cards[offset + i*count + h] (see PokerHandEvaluator.evaluateBatchColumns()).
+	 * It throws IllegalArgumentException if the cards of a hand are not 7 distinct cards of the deck.
+	 *
+	 * @param cards The 7 card columns of the hands, count int cards each.
+	 * @param offset The index of the first card of the first column.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the best 5-card hands are put here, from the index 0.
+	 */
+	public static void evaluateBatchColumns(int cards[], int offset, int count, long outKeys[]) {
+		PokerHandEvaluator.checkBatch(cards, offset, count, 7, outKeys);
+		for (int h=0, c=offset; h<count; h++, c++) {
+			outKeys[h] = calcBestComparator(checkBatchHand(
+				suitMask(cards[c]) | suitMask(cards[c+count]) | suitMask(cards[c+2*count]) | suitMask(cards[c+3*count]) |
+				suitMask(cards[c+4*count]) | suitMask(cards[c+5*count]) | suitMask(cards[c+6*count]),
+				cards[c] | cards[c+count] | cards[c+2*count] | cards[c+3*count] | cards[c+4*count] | cards[c+5*count] | cards[c+6*count]));
+		}
+	}
+
+	/**
+	 * It checks that the cards of a batch hand are 7 distinct cards of the deck, and returns their suit masks:
+	 * a negative card or a card above 63 sets a bit above the 6 bits of the OR of the cards,
+	 * a card of 52 to 63 takes an unused rank bit, and a duplicate card leaves fewer bits than cards.
+	 *
+	 * @param suitMasks The per-suit rank masks of the cards.
+	 * @param cardBits The OR of the int cards.
+	 */
+	private static long checkBatchHand(long suitMasks, int cardBits) {
+		if ((cardBits >>> 6) != 0 || (suitMasks & ~DECK_MASK) != 0 || Long.bitCount(suitMasks) != 7) {
+			throw new IllegalArgumentException("Cards do not make a 7-card poker hand.");
+		}
+		return suitMasks;
+	}
+
+
+	/**
+	 * It returns the card bit in the per-suit rank masks.
+	 */
+	static long suitMask(int card) {
+		return 1L << ((card & 0x3)*SUIT_MASK_BITS + (card >>> 2));
+	}
+
+	/**
+	 * It calculates the hand comparator value of the best 5-card hand of 5 to 7 cards.
+	 *
+	 * @param suitMasks The per-suit rank masks of the cards, 16 bits per suit.
+	 */
+	static long calcBestComparator(long suitMasks) {
+		int s = (int)suitMasks & RANK_MASK;
+		int h = (int)(suitMasks >>> SUIT_MASK_BITS) & RANK_MASK;
+		int d = (int)(suitMasks >>> 2*SUIT_MASK_BITS) & RANK_MASK;
+		int c = (int)(suitMasks >>> 3*SUIT_MASK_BITS) & RANK_MASK;
+		int flushRanks =
+			Integer.bitCount(s) >= CARDS_IN_HAND ? s :
+			Integer.bitCount(h) >= CARDS_IN_HAND ? h :
+			Integer.bitCount(d) >= CARDS_IN_HAND ? d :
+			Integer.bitCount(c) >= CARDS_IN_HAND ? c : 0;
+
+		// The numbers of cards of every rank, bit-sliced over the suit masks:
+		// the masks of the ranks of 1 or more, 2 or more, 3 or more, and 4 cards.
+		int ranks = s | h | d | c;
+		int twoOrMore = (s & h) | (s & d) | (s & c) | (h & d) | (h & c) | (d & c);
+		int threeOrMore = (s & h & d) | (s & h & c) | (s & d & c) | (h & d & c);
+		int fours = s & h & d & c;
+		return calcBestComparator(ranks, twoOrMore & ~threeOrMore, threeOrMore & ~fours, fours, flushRanks);
+	}
+
+	/**
+	 * It calculates the hand comparator value of the best 5-card hand of 5 to 7 cards.
+	 * Note, a Four of a Kind or a Full House cannot be made together with a Flush
+	 * out of 7 or less cards, so a Flush suit decides the category at once.
+	 *
+	 * @param ranks The mask of the ranks of the cards.
+	 * @param pairs The mask of the ranks of exactly 2 cards.
+	 * @param threes The mask of the ranks of exactly 3 cards.
+	 * @param fours The mask of the ranks of 4 cards.
+	 * @param flushRanks The rank mask of the suit of 5 or more cards, or 0.
+	 */
+	static long calcBestComparator(int ranks, int pairs, int threes, int fours, int flushRanks) {
+		if (flushRanks != 0) {
+			int high = straightHigh(flushRanks);
+			if (high >= 0) {
+				return comparator(Categories.SF.ordinal(), high, NO_RANK, NO_RANK, NO_RANK, NO_RANK);
+			}
+			return highCards(Categories.F.ordinal(), flushRanks);
+		}
+		if (fours != 0) {
+			int four = highestRank(fours);
+			return comparator(Categories.K4.ordinal(), four, highestRank(ranks & ~(1 << four)), NO_RANK, NO_RANK, NO_RANK);
+		}
+		if (threes != 0) {
+			int three = highestRank(threes);
+			int pairRanks = (threes & ~(1 << three)) | pairs;
+			if (pairRanks != 0) {
+				return comparator(Categories.FH.ordinal(), three, highestRank(pairRanks), NO_RANK, NO_RANK, NO_RANK);
+			}
+		}
+		int high = straightHigh(ranks);
+		if (high >= 0) {
+			return comparator(Categories.S.ordinal(), high, NO_RANK, NO_RANK, NO_RANK, NO_RANK);
+		}
+		if (threes != 0) {
+			int three = highestRank(threes);
+			int kickers = ranks & ~(1 << three);
+			int k1 = highestRank(kickers);
+			int k2 = highestRank(kickers & ~(1 << k1));
+			return comparator(Categories.K3.ordinal(), three, k1, k2, NO_RANK, NO_RANK);
+		}
+		if (pairs != 0) {
+			int pair1 = highestRank(pairs);
+			int pairs2 = pairs & ~(1 << pair1);
+			if (pairs2 != 0) {
+				int pair2 = highestRank(pairs2);
+				int kicker = highestRank(ranks & ~(1 << pair1) & ~(1 << pair2));
+				return comparator(Categories.P2.ordinal(), pair1, pair2, kicker, NO_RANK, NO_RANK);
+			}
+			int kickers = ranks & ~(1 << pair1);
+			int k1 = highestRank(kickers);
+			kickers &= ~(1 << k1);
+			int k2 = highestRank(kickers);
+			kickers &= ~(1 << k2);
+			return comparator(Categories.P1.ordinal(), pair1, k1, k2, highestRank(kickers), NO_RANK);
+		}
+		return highCards(Categories.HC.ordinal(), ranks);
+	}
+
+	/**
+	 * It returns the comparator value of the 5 highest ranks of the rank mask (a Flush or a High Card).
+	 */
+	private static long highCards(int category, int ranks) {
+		int r0 = highestRank(ranks);
+		ranks &= ~(1 << r0);
+		int r1 = highestRank(ranks);
+		ranks &= ~(1 << r1);
+		int r2 = highestRank(ranks);
+		ranks &= ~(1 << r2);
+		int r3 = highestRank(ranks);
+		ranks &= ~(1 << r3);
+		return comparator(category, r0, r1, r2, r3, highestRank(ranks));
+	}
+
+	/**
+	 * It returns the index of the highest rank of the rank mask.
+	 */
+	static int highestRank(int ranks) {
+		return 31 - Integer.numberOfLeadingZeros(ranks);
+	}
+
+	/**
+	 * It returns the index of the highest card rank of the highest Straight of the rank mask,
+	 * or -1 if there is no Straight.
+	 * The Ace is also placed below the Deuce, for the Five-High Straight (5 4 3 2 A).
+	 */
+	static int straightHigh(int ranks) {
+		int aceLowRanks = (ranks << 1) | (ranks >>> 12);
+		int runs = aceLowRanks & (aceLowRanks >>> 1) & (aceLowRanks >>> 2) & (aceLowRanks >>> 3) & (aceLowRanks >>> 4);
+		if (runs == 0) {
+			return -1;
+		}
+		// The run of 5 starting at the bit #b of aceLowRanks ends at the rank index b+3.
+		return highestRank(runs) + 3;
+	}
+}
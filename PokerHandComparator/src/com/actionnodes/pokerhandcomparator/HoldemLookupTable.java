@@ -0,0 +1,402 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+
+/**
+ * HoldemLookupTable
+ * A precomputed state-transition lookup table of 7-card hands (the "two-plus-two" table).
+ *
+ * Every state of the table is a set of up to 6 cards and holds 53 int entries:
+ * the strength of the best 5-card hand of the state cards (for 5 and 6 cards),
+ * followed by the entries for the 52 cards, which are the next states
+ * (or, after the 6th card, the strength of the best 5-card hand of the 7 cards).
+ * So a 7-card hand is evaluated by 7 array lookups, one per card.
+ * The suits which cannot make a Flush any more are dropped from the state cards,
+ * that reduces the table to 612,977 states, i.e. 32,487,834 entries (130 MB).
+ *
+ * The table is generated once and written to a versioned, checksummed binary file,
+ * which is then mapped into memory read-only, so the table opens in milliseconds
+ * and all JVMs on one host share the same pages of the file.
+ *
+ * The strength is 1 to 7462, the higher the stronger:
+ * the hand equivalence class rank (see PokerHandEquivClassIDsIdea) counted from the lowest class.
+ * The hand strengths are calculated by HoldemEvaluator,
+ * and the generator verifies the table against it.
+ */
+public final class HoldemLookupTable
+{
+	/**
+	 * The file format:
+	 *   int  MAGIC
+	 *   int  VERSION
+	 *   int  the number of table entries
+	 *   int  the number of hand equivalence classes
+	 *   long the CRC32 checksum of the table entries
+	 *   long reserved
+	 *   int  the table entries ...
+	 * all in the little-endian byte order.
+	 */
+	public static final int MAGIC = 0x54434850; // "PHCT"
+	public static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+
+	/**
+	 * The number of entries per state: the state value and the 52 cards.
+	 */
+	private static final int STATE_SIZE = PokerHandEvaluator.CARDS_IN_DECK + 1;
+
+	/**
+	 * The pointer to the initial (empty) state.
+	 * The entry of the card c of a state of the pointer p is p+c,
+	 * and the state value is p-1.
+	 */
+	private static final int INITIAL_STATE = STATE_SIZE + 1;
+
+	private static final int CARDS_IN_HOLDEM_HAND = 7;
+
+
+	private final IntBuffer _table;
+
+	private HoldemLookupTable(IntBuffer table) {
+		_table = table;
+	}
+
+
+	/**
+	 * It opens the table file, mapping it into memory read-only,
+	 * and checks the file header (but not the checksum).
+	 */
+	public static HoldemLookupTable open(Path file) throws IOException {
+		return open(file, false);
+	}
+
+	/**
+	 * It opens the table file, mapping it into memory read-only.
+	 *
+	 * @param verifyChecksum If the checksum of the table entries must be verified.
+	 *                       It reads the whole file, so it takes far longer than mapping.
+	 */
+	public static HoldemLookupTable open(Path file, boolean verifyChecksum) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE) {
+				throw new IOException("File "+file+" is not a hand lookup table.");
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+			int magic = mapped.getInt(0);
+			int version = mapped.getInt(4);
+			int entries = mapped.getInt(8);
+			int classes = mapped.getInt(12);
+			long checksum = mapped.getLong(16);
+			if (magic != MAGIC) {
+				throw new IOException("File "+file+" is not a hand lookup table.");
+			}
+			if (version != VERSION) {
+				throw new IOException("Hand lookup table "+file+" is of version "+version+" instead of "+VERSION+".");
+			}
+			if (classes != PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES
+				|| channel.size() != HEADER_SIZE + 4L*entries) {
+				throw new IOException("Hand lookup table "+file+" is corrupted.");
+			}
+
+			mapped.position(HEADER_SIZE);
+			ByteBuffer data = mapped.slice().order(ByteOrder.LITTLE_ENDIAN);
+			if (verifyChecksum) {
+				CRC32 crc = new CRC32();
+				crc.update(data.duplicate());
+				if (crc.getValue() != checksum) {
+					throw new IOException("Hand lookup table "+file+" checksum mismatch.");
+				}
+			}
+			// The mapping stays valid after the channel is closed.
+			return new HoldemLookupTable(data.asIntBuffer());
+		}
+	}
+
+
+	/**
+	 * It returns the strength of the best 5-card hand of 7 int cards, from 1 to 7462, the higher the stronger.
+	 */
+	public int strength(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+		IntBuffer t = _table;
+		return t.get(t.get(t.get(t.get(t.get(t.get(t.get(INITIAL_STATE + c1) + c2) + c3) + c4) + c5) + c6) + c7);
+	}
+
+	/**
+	 * It evaluates a 7-card hand.
+	 *
+	 * @return The hand comparator value of the best 5-card hand of the 7 cards,
+	 * the same as HoldemEvaluator.evaluate() returns.
+	 */
+	public long evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+		return PokerHandEvaluator.getClassComparator(toClassRank(strength(c1, c2, c3, c4, c5, c6, c7)));
+	}
+
+	/**
+	 * It converts a strength to the hand equivalence class rank (1 is the highest class) and back.
+	 */
+	public static int toClassRank(int strength) {
+		return PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES + 1 - strength;
+	}
+	public static int toStrength(int classRank) {
+		return PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES + 1 - classRank;
+	}
+
+
+	/**
+	 * It verifies the table against HoldemEvaluator for all 133,784,560 7-card hands.
+	 *
+	 * @return The number of the verified hands.
+	 * @throws IllegalStateException If the table disagrees with HoldemEvaluator.
+	 */
+	public long verify() {
+		int n = PokerHandEvaluator.CARDS_IN_DECK;
+		long hands = 0;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++)
+		for (int c6=c5+1; c6<n; c6++)
+		for (int c7=c6+1; c7<n; c7++) {
+			if (evaluate(c1, c2, c3, c4, c5, c6, c7) != HoldemEvaluator.evaluate(c1, c2, c3, c4, c5, c6, c7)) {
+				throw new IllegalStateException("Hand lookup table disagrees with HoldemEvaluator at the cards "
+					+c1+","+c2+","+c3+","+c4+","+c5+","+c6+","+c7+".");
+			}
+			hands++;
+		}
+		return hands;
+	}
+
+
+	/**
+	 * It generates the table and writes it to the file.
+	 * The file is written under a temporary name and then renamed,
+	 * so the JVMs opening the file never see it half-written.
+	 */
+	public static void generate(Path file) throws IOException {
+		int table[] = new Generator().generate();
+
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+			CRC32 crc = new CRC32();
+
+			// Write the table entries after the header space, calculating their checksum.
+			channel.position(HEADER_SIZE);
+			for (int i=0; i<table.length; ) {
+				buffer.clear();
+				while (i<table.length && buffer.remaining() >= 4) {
+					buffer.putInt(table[i++]);
+				}
+				buffer.flip();
+				crc.update(buffer.duplicate());
+				while (buffer.hasRemaining()) channel.write(buffer);
+			}
+
+			buffer.clear();
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putInt(table.length);
+			buffer.putInt(PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES);
+			buffer.putLong(crc.getValue());
+			buffer.putLong(0L);
+			buffer.flip();
+			channel.position(0);
+			while (buffer.hasRemaining()) channel.write(buffer);
+			channel.force(true);
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+
+	/**
+	 * Generator
+	 * It builds the states level by level (0 to 6 cards) and then fills out the table.
+	 *
+	 * A state ID is a long of up to 7 card bytes, sorted in descending order:
+	 * (rank index + 1) << 4 | (suit index + 1), where the suit is 0 if it was dropped.
+	 * A suit is dropped when it has fewer than (cards - 2) cards,
+	 * because then it cannot make 5 cards of 7.
+	 */
+	private static class Generator
+	{
+		private final int _cardBytes[] = new int[CARDS_IN_HOLDEM_HAND];
+		private final int _rankCounts[] = new int[Ranks.enumSize];
+		private final int _suitCounts[] = new int[5];
+		private final int _suitRanks[] = new int[5];
+
+		private long _ids[];
+
+		int[] generate() {
+			// The states of 0 to 6 cards; the IDs of more cards are numerically greater.
+			long levels[][] = new long[CARDS_IN_HOLDEM_HAND][];
+			levels[0] = new long[] { 0L };
+			int states = 1;
+			for (int k=1; k<CARDS_IN_HOLDEM_HAND; k++) {
+				levels[k] = nextLevel(levels[k-1]);
+				states += levels[k].length;
+			}
+			_ids = new long[states];
+			for (int k=0, n=0; k<CARDS_IN_HOLDEM_HAND; k++) {
+				System.arraycopy(levels[k], 0, _ids, n, levels[k].length);
+				n += levels[k].length;
+			}
+
+			int table[] = new int[STATE_SIZE * (states + 1)];
+			for (int i=0; i<states; i++) {
+				long id = _ids[i];
+				int cards = cardCount(id);
+				int pointer = pointer(i);
+				if (cards >= 5) {
+					table[pointer - 1] = strength(id);
+				}
+				for (int card=0; card<PokerHandEvaluator.CARDS_IN_DECK; card++) {
+					long next = makeID(id, card);
+					if (next == 0L) {
+						continue; // Not a valid hand.
+					}
+					table[pointer + card] = cards == CARDS_IN_HOLDEM_HAND-1
+						? strength(next)
+						: pointer(Arrays.binarySearch(_ids, next));
+				}
+			}
+			return table;
+		}
+
+		private static int pointer(int stateIdx) {
+			return INITIAL_STATE + STATE_SIZE*stateIdx;
+		}
+
+		private long[] nextLevel(long level[]) {
+			long next[] = new long[level.length * PokerHandEvaluator.CARDS_IN_DECK];
+			int n = 0;
+			for (long id : level) {
+				for (int card=0; card<PokerHandEvaluator.CARDS_IN_DECK; card++) {
+					long nextID = makeID(id, card);
+					if (nextID != 0L) next[n++] = nextID;
+				}
+			}
+			Arrays.sort(next, 0, n);
+			int unique = 0;
+			for (int i=0; i<n; i++) {
+				if (unique == 0 || next[unique-1] != next[i]) next[unique++] = next[i];
+			}
+			return Arrays.copyOf(next, unique);
+		}
+
+		private static int cardCount(long id) {
+			return (64 - Long.numberOfLeadingZeros(id) + 7) / 8;
+		}
+
+		/**
+		 * It returns the ID of the state of the cards of the ID and the card,
+		 * or 0 if the card is already there or it is the 5th card of a rank.
+		 */
+		private long makeID(long id, int card) {
+			int n = 0;
+			for (long bytes = id; bytes != 0; bytes >>>= 8) {
+				_cardBytes[n++] = (int)(bytes & 0xFF);
+			}
+			int cardByte = (((card >>> 2) + 1) << 4) | ((card & 0x3) + 1);
+			for (int i=0; i<n; i++) {
+				if (_cardBytes[i] == cardByte) return 0L;
+			}
+			_cardBytes[n++] = cardByte;
+
+			Arrays.fill(_rankCounts, 0);
+			Arrays.fill(_suitCounts, 0);
+			for (int i=0; i<n; i++) {
+				if (++_rankCounts[(_cardBytes[i] >>> 4) - 1] > 4) return 0L;
+				_suitCounts[_cardBytes[i] & 0xF]++;
+			}
+			int needSuited = n - 2;
+			if (needSuited > 1) {
+				for (int i=0; i<n; i++) {
+					int suit = _cardBytes[i] & 0xF;
+					if (suit != 0 && _suitCounts[suit] < needSuited) {
+						_cardBytes[i] &= 0xF0;
+					}
+				}
+			}
+
+			Arrays.sort(_cardBytes, 0, n);
+			long newID = 0L;
+			for (int i=0; i<n; i++) {
+				newID |= ((long)_cardBytes[n-1-i]) << (8*i);
+			}
+			return newID;
+		}
+
+		/**
+		 * It calculates the strength of the best 5-card hand of the cards of the ID.
+		 */
+		private int strength(long id) {
+			int ranks = 0, pairs = 0, threes = 0, fours = 0;
+			Arrays.fill(_rankCounts, 0);
+			Arrays.fill(_suitRanks, 0);
+			for (long bytes = id; bytes != 0; bytes >>>= 8) {
+				int rank = (int)((bytes >>> 4) & 0xF) - 1;
+				_rankCounts[rank]++;
+				_suitRanks[(int)(bytes & 0xF)] |= 1 << rank;
+			}
+			for (int rank=0; rank<Ranks.enumSize; rank++) {
+				int bit = 1 << rank;
+				switch (_rankCounts[rank]) {
+				case 0: break;
+				case 1: ranks |= bit; break;
+				case 2: ranks |= bit; pairs |= bit; break;
+				case 3: ranks |= bit; threes |= bit; break;
+				default: ranks |= bit; fours |= bit; break;
+				}
+			}
+			int flushRanks = 0;
+			for (int suit=1; suit<_suitRanks.length; suit++) {
+				if (Integer.bitCount(_suitRanks[suit]) >= 5) flushRanks = _suitRanks[suit];
+			}
+			long comparator = HoldemEvaluator.calcBestComparator(ranks, pairs, threes, fours, flushRanks);
+			return toStrength(PokerHandEvaluator.getClassRank(comparator));
+		}
+	}
+
+
+	/**
+	 * It generates the table file and verifies it.
+	 *
+	 * @param args The table file path.
+	 */
+	public static void main(String[] args) throws IOException {
+		Path file = Paths.get(args.length > 0 ? args[0] : "HoldemLookupTable.dat");
+
+		long start = System.nanoTime();
+		generate(file);
+		System.out.println("Generated "+file+" in "+(System.nanoTime()-start)/1000000+" ms.");
+
+		start = System.nanoTime();
+		HoldemLookupTable table = open(file, true);
+		System.out.println("Opened "+file+" in "+(System.nanoTime()-start)/1000000+" ms.");
+
+		start = System.nanoTime();
+		long hands = table.verify();
+		System.out.println("Verified "+hands+" hands in "+(System.nanoTime()-start)/1000000+" ms.");
+	}
+}
@@ -0,0 +1,204 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+
+/**
+ * IncrementalHandState
+ * The evaluation state of a Texas Hold'em hand which grows one card at a time
+ * (the hole cards, then the flop, the turn and the river), or loses a card for a what-if analysis.
+ *
+ * Every card added or removed updates, in O(1), the per-rank card counters 
+ * (one hexadecimal digit per rank, as PokerHand._handCardRankingSum), the masks of the ranks of 
+ * 1 or more, 2 or more, 3 or more and 4 cards, and the per-suit card counters and rank masks,
+ * so the best-hand key on every street is taken from them without rescanning the cards (see HoldemEvaluator).
+ */
+public class IncrementalHandState
+{
+	private static final int MAX_CARDS = 7;
+	private static final int MIN_CARDS = 5;
+	private static final int SUIT_MASK_BITS = 16;
+	private static final int RANK_MASK = 0x1FFF;
+	private static final int SUIT_COUNT_BITS = 8;
+	private static final Categories CATEGORIES[] = Categories.values();
+
+	private long _cards = 0L;
+	private int _cardCount = 0;
+
+	/**
+	 * The per-rank card counters, a hexadecimal digit per rank (see PokerHand._handCardRankingSum).
+	 */
+	private long _rankCounts = 0L;
+
+	/**
+	 * The masks of the ranks of at least 1, 2, 3 and 4 cards.
+	 */
+	private int _ranks1 = 0;
+	private int _ranks2 = 0;
+	private int _ranks3 = 0;
+	private int _ranks4 = 0;
+
+	/**
+	 * The per-suit rank masks (see HoldemEvaluator), and the per-suit card counters, a byte per suit.
+	 */
+	private long _suitMasks = 0L;
+	private int _suitCounts = 0;
+
+	/**
+	 * The hand comparator value of the current cards, or 0 if it has not been calculated yet.
+	 */
+	private long _comparator = 0L;
+
+
+	/**
+	 * Constructor
+	 * It creates the state of no cards.
+	 */
+	public IncrementalHandState() {
+	}
+
+	/**
+	 * Constructor
+	 * It creates a copy of the state (e.g. to try out the cards to come).
+	 */
+	public IncrementalHandState(IncrementalHandState state) {
+		_cards = state._cards;
+		_cardCount = state._cardCount;
+		_rankCounts = state._rankCounts;
+		_ranks1 = state._ranks1;
+		_ranks2 = state._ranks2;
+		_ranks3 = state._ranks3;
+		_ranks4 = state._ranks4;
+		_suitMasks = state._suitMasks;
+		_suitCounts = state._suitCounts;
+		_comparator = state._comparator;
+	}
+
+
+	public void addCard(Card card) {
+		addCard(card.getIndex());
+	}
+
+	/**
+	 * It adds the int card (see PokerHandEvaluator).
+	 * It throws IllegalArgumentException if the card is already there or there are 7 cards already.
+	 */
+	public void addCard(int card) {
+		long bit = CompactHand.cardBit(card);
+		if ((_cards & bit) != 0) {
+			throw new IllegalArgumentException("Card "+Card.of(card)+" is already in the hand.");
+		}
+		if (_cardCount == MAX_CARDS) {
+			throw new IllegalArgumentException("Hand cannot have more than "+MAX_CARDS+" cards.");
+		}
+		int rank = card >>> 2;
+		int rankBit = 1 << rank;
+		switch (rankCount(rank)) {
+		case 0: _ranks1 |= rankBit; break;
+		case 1: _ranks2 |= rankBit; break;
+		case 2: _ranks3 |= rankBit; break;
+		default: _ranks4 |= rankBit; break;
+		}
+		_rankCounts += 1L << (4*rank);
+		_suitMasks |= HoldemEvaluator.suitMask(card);
+		_suitCounts += 1 << (SUIT_COUNT_BITS*(card & 0x3));
+		_cards |= bit;
+		_cardCount++;
+		_comparator = 0L;
+	}
+
+	public void removeCard(Card card) {
+		removeCard(card.getIndex());
+	}
+
+	/**
+	 * It removes the int card (see PokerHandEvaluator).
+	 * It throws IllegalArgumentException if the card is not there.
+	 */
+	public void removeCard(int card) {
+		long bit = CompactHand.cardBit(card);
+		if ((_cards & bit) == 0) {
+			throw new IllegalArgumentException("Card "+Card.of(card)+" is not in the hand.");
+		}
+		int rank = card >>> 2;
+		int rankBit = ~(1 << rank);
+		switch (rankCount(rank)) {
+		case 1: _ranks1 &= rankBit; break;
+		case 2: _ranks2 &= rankBit; break;
+		case 3: _ranks3 &= rankBit; break;
+		default: _ranks4 &= rankBit; break;
+		}
+		_rankCounts -= 1L << (4*rank);
+		_suitMasks &= ~HoldemEvaluator.suitMask(card);
+		_suitCounts -= 1 << (SUIT_COUNT_BITS*(card & 0x3));
+		_cards &= ~bit;
+		_cardCount--;
+		_comparator = 0L;
+	}
+
+	/**
+	 * It removes all cards.
+	 */
+	public void clear() {
+		_cards = 0L;
+		_cardCount = 0;
+		_rankCounts = 0L;
+		_ranks1 = _ranks2 = _ranks3 = _ranks4 = 0;
+		_suitMasks = 0L;
+		_suitCounts = 0;
+		_comparator = 0L;
+	}
+
+
+	public int getCardCount() {
+		return _cardCount;
+	}
+
+	/**
+	 * It returns the card mask of the cards (see CompactHand).
+	 */
+	public long getCardMask() {
+		return _cards;
+	}
+
+	/**
+	 * It returns the number of the cards of the rank index (Ranks ordinal).
+	 */
+	public int rankCount(int rank) {
+		return (int)(_rankCounts >>> (4*rank)) & 0xF;
+	}
+
+	/**
+	 * It returns the number of the cards of the suit index (see PokerHandEvaluator).
+	 */
+	public int suitCount(int suit) {
+		return (_suitCounts >>> (SUIT_COUNT_BITS*suit)) & 0xFF;
+	}
+
+	/**
+	 * It returns the hand comparator value of the best 5-card hand of the cards (see PokerHand.getComparator()).
+	 * It throws IllegalStateException if there are fewer than 5 cards.
+	 */
+	public long getComparator() {
+		if (_comparator == 0L) {
+			if (_cardCount < MIN_CARDS) {
+				throw new IllegalStateException("Hand has "+_cardCount+" cards, fewer than "+MIN_CARDS+".");
+			}
+			int flushRanks = 0;
+			for (int suit=0; suit<4; suit++) {
+				if (suitCount(suit) >= MIN_CARDS) {
+					flushRanks = (int)(_suitMasks >>> (SUIT_MASK_BITS*suit)) & RANK_MASK;
+				}
+			}
+			_comparator = HoldemEvaluator.calcBestComparator(
+				_ranks1, _ranks2 & ~_ranks3, _ranks3 & ~_ranks4, _ranks4, flushRanks);
+		}
+		return _comparator;
+	}
+
+	public Categories getCategory() {
+		return CATEGORIES[(int)(getComparator() >>> (8*7))];
+	}
+}
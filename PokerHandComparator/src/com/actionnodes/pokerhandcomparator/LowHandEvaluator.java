@@ -0,0 +1,271 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+
+
+/**
+ * LowHandEvaluator
+ * The evaluation of the low hands (the lowest hand wins) of the lowball and the hi/lo split games:
+ * - Deuce-to-seven: the Ace is high, and the Straights and the Flushes count against the hand
+ *   (so 7-5-4-3-2 of mixed suits is the best hand, and A-5-4-3-2 is an Ace high, not a Straight);
+ * - Ace-to-five: the Ace is low, the Straights and the Flushes are ignored (5-4-3-2-A is the best hand);
+ * - Eight-or-better: the Ace-to-five low of 5 distinct ranks not higher than the Eight,
+ *   the qualifier of the low half of the pot of Omaha Hi/Lo and Stud Hi/Lo.
+ *
+ * The result is the low key of the hand: the higher the key, the better the low hand, equal keys tie
+ * (as the hand comparator values do for the high hands, see PokerHand.getComparator()),
+ * so the low keys go to ShowdownResolver.resolveHiLo() as they are.
+ * The keys are the dense ranks of the low hands: 1 is the worst low, and the best low is
+ * DEUCE_TO_SEVEN_KEYS (7462) or ACE_TO_FIVE_KEYS (6175); 0 is no qualifying Eight-or-better low.
+ *
+ * The keys are looked up in the tables indexed by the sum of the perfect hash weights of the card ranks
+ * (see PokerHandEquivClassIDsIdea), like the class ranks of the high hands, so a key costs
+ * 5 additions and a lookup; Deuce-to-seven has the second table for the Flushes.
+ */
+public class LowHandEvaluator
+{
+	/**
+	 * The number of the distinct Deuce-to-seven lows (the number of the hand equivalence classes).
+	 */
+	public static final int DEUCE_TO_SEVEN_KEYS = PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES;
+
+	/**
+	 * The number of the distinct Ace-to-five lows (the number of the 5-card rank multisets).
+	 */
+	public static final int ACE_TO_FIVE_KEYS = 6175;
+
+	/**
+	 * The Eight-or-better low key of a hand without a qualifying low.
+	 */
+	public static final int NO_LOW = 0;
+
+	/**
+	 * The low keys by the rank hash; 0 is an invalid hash (e.g. 5 cards of the same rank).
+	 */
+	private static final short _deuceToSevenKeys[] = new short[PokerHandEquivClassIDsIdea.MAX_RANK_HASH+1];
+	private static final short _deuceToSevenFlushKeys[] = new short[PokerHandEquivClassIDsIdea.MAX_RANK_HASH+1];
+	private static final short _aceToFiveKeys[] = new short[PokerHandEquivClassIDsIdea.MAX_RANK_HASH+1];
+
+	/**
+	 * The lowest Eight-or-better key (of 8-7-6-5-4): an Ace-to-five low qualifies if its key is not lower,
+	 * as every low without a pair and with the highest card of the Eight or lower beats every other low.
+	 */
+	private static final int EIGHT_OR_BETTER_MIN_KEY;
+
+	/**
+	 * The rank hash sums of the 5 lowest ranks of every 8-bit mask of the Ace-to-five ranks A..8
+	 * (bit 0 is the Ace, bit 7 is the Eight).
+	 */
+	private static final int _lowestFiveHashes[] = new int[1 << 8];
+
+	static {
+		// The badness of every low (the higher, the worse) paired with its rank hash.
+		long deuceToSeven[] = new long[DEUCE_TO_SEVEN_KEYS];
+		long aceToFive[] = new long[ACE_TO_FIVE_KEYS];
+		int n27 = 0, nA5 = 0;
+		int counts[] = new int[Ranks.enumSize];
+		int r[] = new int[5];
+		for (r[0]=0; r[0]<Ranks.enumSize; r[0]++)
+		for (r[1]=r[0]; r[1]<Ranks.enumSize; r[1]++)
+		for (r[2]=r[1]; r[2]<Ranks.enumSize; r[2]++)
+		for (r[3]=r[2]; r[3]<Ranks.enumSize; r[3]++)
+		for (r[4]=r[3]; r[4]<Ranks.enumSize; r[4]++) {
+			if (r[0] == r[4]) continue;
+			Arrays.fill(counts, 0);
+			int hash = 0;
+			for (int rank : r) {
+				counts[rank]++;
+				hash += PokerHandEquivClassIDsIdea.RANK_HASH_WEIGHTS[rank];
+			}
+			deuceToSeven[n27++] = (badness(counts, false, false) << 24) | (hash << 1);
+			if (r[0] != r[1] && r[1] != r[2] && r[2] != r[3] && r[3] != r[4]) {
+				deuceToSeven[n27++] = (badness(counts, false, true) << 24) | (hash << 1) | 1;
+			}
+			// The Ace is moved below the Deuce.
+			int aceLow[] = new int[Ranks.enumSize];
+			aceLow[0] = counts[Ranks.A.ordinal()];
+			System.arraycopy(counts, 0, aceLow, 1, Ranks.enumSize - 1);
+			aceToFive[nA5++] = (badness(aceLow, true, false) << 24) | hash;
+		}
+
+		// The worst low gets the key 1, the best one the highest key.
+		Arrays.sort(deuceToSeven);
+		for (int i=0; i<n27; i++) {
+			int hash = (int)(deuceToSeven[i] & 0xFFFFFF) >>> 1;
+			short table[] = (deuceToSeven[i] & 1) != 0 ? _deuceToSevenFlushKeys : _deuceToSevenKeys;
+			table[hash] = (short)(n27 - i);
+		}
+		Arrays.sort(aceToFive);
+		for (int i=0; i<nA5; i++) {
+			_aceToFiveKeys[(int)(aceToFive[i] & 0xFFFFFF)] = (short)(nA5 - i);
+		}
+
+		int w[] = PokerHandEquivClassIDsIdea.RANK_HASH_WEIGHTS;
+		EIGHT_OR_BETTER_MIN_KEY = _aceToFiveKeys[w[Ranks.E.ordinal()] + w[Ranks.Sv.ordinal()] +
+			w[Ranks.Sx.ordinal()] + w[Ranks.Fv.ordinal()] + w[Ranks.Fr.ordinal()]];
+
+		for (int mask=0; mask<_lowestFiveHashes.length; mask++) {
+			if (Integer.bitCount(mask) < 5) continue;
+			int hash = 0;
+			int m = mask;
+			for (int i=0; i<5; i++) {
+				int bit = Integer.numberOfTrailingZeros(m);
+				m &= m - 1;
+				hash += w[bit == 0 ? Ranks.A.ordinal() : bit - 1];
+			}
+			_lowestFiveHashes[mask] = hash;
+		}
+	}
+
+
+	/**
+	 * It returns the Deuce-to-seven low key of the 5 int cards (see PokerHandEvaluator).
+	 */
+	public static int deuceToSeven(int c1, int c2, int c3, int c4, int c5) {
+		int hash = PokerHandEvaluator.CARD_RANK_HASHES[c1] + PokerHandEvaluator.CARD_RANK_HASHES[c2] +
+			PokerHandEvaluator.CARD_RANK_HASHES[c3] + PokerHandEvaluator.CARD_RANK_HASHES[c4] +
+			PokerHandEvaluator.CARD_RANK_HASHES[c5];
+		boolean flush = (PokerHandEvaluator.CARD_SUITS[c1] & PokerHandEvaluator.CARD_SUITS[c2] &
+			PokerHandEvaluator.CARD_SUITS[c3] & PokerHandEvaluator.CARD_SUITS[c4] & PokerHandEvaluator.CARD_SUITS[c5]) != 0;
+		int key = flush ? _deuceToSevenFlushKeys[hash] : _deuceToSevenKeys[hash];
+		if (key == 0) {
+			throw new IllegalArgumentException("Cards do not make a hand.");
+		}
+		return key;
+	}
+
+	/**
+	 * It returns the Ace-to-five low key of the 5 int cards.
+	 */
+	public static int aceToFive(int c1, int c2, int c3, int c4, int c5) {
+		int key = _aceToFiveKeys[PokerHandEvaluator.CARD_RANK_HASHES[c1] + PokerHandEvaluator.CARD_RANK_HASHES[c2] +
+			PokerHandEvaluator.CARD_RANK_HASHES[c3] + PokerHandEvaluator.CARD_RANK_HASHES[c4] +
+			PokerHandEvaluator.CARD_RANK_HASHES[c5]];
+		if (key == 0) {
+			throw new IllegalArgumentException("Cards do not make a hand.");
+		}
+		return key;
+	}
+
+	/**
+	 * It returns the Eight-or-better low key of the 5 int cards (the Ace-to-five low key), or NO_LOW.
+	 */
+	public static int eightOrBetter(int c1, int c2, int c3, int c4, int c5) {
+		int key = aceToFive(c1, c2, c3, c4, c5);
+		return key >= EIGHT_OR_BETTER_MIN_KEY ? key : NO_LOW;
+	}
+
+	/**
+	 * It returns the Eight-or-better low key of the best 5 of the 5 to 7 int cards (Stud Hi/Lo), or NO_LOW.
+	 * The best low is the 5 lowest distinct ranks, so it takes a mask of the ranks A..8 and a lookup.
+	 */
+	public static int eightOrBetter(int cards[]) {
+		if (cards.length < 5 || cards.length > 7) {
+			throw new IllegalArgumentException("Hand must have 5 to 7 cards.");
+		}
+		int mask = 0;
+		for (int card : cards) {
+			mask |= lowRankBit(card);
+		}
+		if (Integer.bitCount(mask & 0xFF) < 5) {
+			return NO_LOW;
+		}
+		return _aceToFiveKeys[_lowestFiveHashes[mask & 0xFF]];
+	}
+
+	/**
+	 * It returns the Eight-or-better low key of the best Omaha low (Omaha Hi/Lo) of exactly 2 hole cards
+	 * and exactly 3 board cards, or NO_LOW.
+	 *
+	 * @param hole 4 to 6 hole int cards.
+	 * @param board 3 to 5 board int cards.
+	 */
+	public static int omahaEightOrBetter(int hole[], int board[]) {
+		if (hole.length < 4 || hole.length > 6) {
+			throw new IllegalArgumentException("Omaha hand must have 4 to 6 hole cards.");
+		}
+		if (board.length < 3 || board.length > 5) {
+			throw new IllegalArgumentException("The board must have 3 to 5 cards.");
+		}
+		// The low ranks A..8: at least 2 distinct of the hole and 3 distinct of the board are needed.
+		int holeMask = 0, boardMask = 0;
+		for (int card : hole) holeMask |= lowRankBit(card);
+		for (int card : board) boardMask |= lowRankBit(card);
+		holeMask &= 0xFF;
+		boardMask &= 0xFF;
+		if (Integer.bitCount(holeMask) < 2 || Integer.bitCount(boardMask) < 3) {
+			return NO_LOW;
+		}
+
+		int best = NO_LOW;
+		for (int i=0; i<hole.length; i++)
+		for (int j=i+1; j<hole.length; j++) {
+			int pairHash = PokerHandEvaluator.CARD_RANK_HASHES[hole[i]] + PokerHandEvaluator.CARD_RANK_HASHES[hole[j]];
+			for (int a=0; a<board.length; a++)
+			for (int b=a+1; b<board.length; b++)
+			for (int c=b+1; c<board.length; c++) {
+				int key = _aceToFiveKeys[pairHash + PokerHandEvaluator.CARD_RANK_HASHES[board[a]] +
+					PokerHandEvaluator.CARD_RANK_HASHES[board[b]] + PokerHandEvaluator.CARD_RANK_HASHES[board[c]]];
+				if (key > best) best = key;
+			}
+		}
+		return best >= EIGHT_OR_BETTER_MIN_KEY ? best : NO_LOW;
+	}
+
+
+	/**
+	 * It returns the bit of the Ace-to-five rank of the int card: bit 0 is the Ace, bit 1 the Deuce, and so on.
+	 */
+	private static int lowRankBit(int card) {
+		int rank = PokerHandEvaluator.rankOf(card).ordinal();
+		return rank == Ranks.A.ordinal() ? 1 : 1 << (rank + 1);
+	}
+
+	/**
+	 * It returns the badness of a low (the higher, the worse): the category above the ranks by the count
+	 * and the rank in the descending order, as the hand comparator value orders the high hands.
+	 *
+	 * @param counts The counts of the 13 ranks, from the lowest one.
+	 * @param aceToFive If the Straights and the Flushes are ignored.
+	 * @param flush If the cards are of the same suit.
+	 */
+	private static long badness(int counts[], boolean aceToFive, boolean flush) {
+		int pairs = 0, threes = 0, fours = 0, distinct = 0;
+		int low = -1, high = -1;
+		for (int rank=0; rank<counts.length; rank++) {
+			if (counts[rank] == 0) continue;
+			distinct++;
+			if (low < 0) low = rank;
+			high = rank;
+			if (counts[rank] == 2) pairs++;
+			else if (counts[rank] == 3) threes++;
+			else if (counts[rank] == 4) fours++;
+		}
+		boolean straight = !aceToFive && distinct == 5 && high - low == 4;
+		flush = flush && !aceToFive;
+
+		Categories category;
+		if (straight && flush)		category = Categories.SF;
+		else if (fours > 0)			category = Categories.K4;
+		else if (threes > 0 && pairs > 0) category = Categories.FH;
+		else if (flush)				category = Categories.F;
+		else if (straight)			category = Categories.S;
+		else if (threes > 0)		category = Categories.K3;
+		else if (pairs == 2)		category = Categories.P2;
+		else if (pairs == 1)		category = Categories.P1;
+		else						category = Categories.HC;
+
+		long value = category.ordinal();
+		for (int count=4; count>0; count--) {
+			for (int rank=counts.length-1; rank>=0; rank--) {
+				if (counts[rank] == count) value = (value << 4) | rank;
+			}
+		}
+		// The rank nibbles are aligned (there are fewer of them for the paired hands).
+		return value << 4 * (5 - distinct);
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * MonteCarloEquity
+ * The Texas Hold'em equity of 2 to 10 hands (multi-way pots) estimated by random runouts of the board.
+ * The showdowns compare the best 5-card hands in the PokerHand.compareHands() order, 
+ * and a pot split by a tie counts as the share of the pot.
+ *
+ * The runouts are simulated in rounds by one worker per thread of a fork/join pool; every worker has
+ * its own SplittableRandom stream (split from one seed) and its own copy of the remaining deck, which it 
+ * partially shuffles in place for every runout, so nothing is allocated per runout.
+ * After every round the standard errors of the equities are checked, and the simulation stops
+ * when the largest one is at most the target standard error, or when the time budget is over.
+ */
+public final class MonteCarloEquity
+{
+	private MonteCarloEquity() {
+	}
+
+	private static final int HOLE_CARDS = 2;
+	private static final int BOARD_CARDS = 5;
+	private static final int MAX_PLAYERS = 10;
+
+	/**
+	 * The number of the runouts a worker simulates in a round.
+	 */
+	private static final int RUNOUTS_PER_ROUND = 2048;
+
+	/**
+	 * The normal quantile of the 95% confidence intervals.
+	 */
+	private static final double Z_95 = 1.959964;
+
+
+	/**
+	 * It estimates the equities of the hands in the common fork/join pool.
+	 *
+	 * @param holes The 2 hole int cards of every hand (see PokerHandEvaluator).
+	 * @param board 0 to 5 board int cards.
+	 * @param dead The int cards known to be out of the deck (e.g. folded), or null.
+	 * @param targetStandardError The simulation stops when the standard errors of all equities 
+	 *        are at most this value (e.g. 0.005 for half a percent), or 0 to run until the time budget is over.
+	 * @param timeBudgetMillis The simulation stops when this time is over (after the current round).
+	 */
+	public static Result equity(int holes[][], int board[], int dead[], double targetStandardError, long timeBudgetMillis) {
+		return equity(holes, board, dead, targetStandardError, timeBudgetMillis, 
+			new SplittableRandom(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * It estimates the equities of the hands in the specified fork/join pool, with the specified random stream.
+	 */
+	public static Result equity(int holes[][], int board[], int dead[], double targetStandardError, long timeBudgetMillis,
+			SplittableRandom random, ForkJoinPool pool) {
+		if (holes.length < 2 || holes.length > MAX_PLAYERS || board.length > BOARD_CARDS) {
+			throw new IllegalArgumentException("There must be 2 to 10 hands and the board must have up to 5 cards.");
+		}
+		long used = HeadsUpEquity.addCards(0L, board);
+		for (int hole[] : holes) {
+			if (hole.length != HOLE_CARDS) {
+				throw new IllegalArgumentException("Hands must have 2 hole cards.");
+			}
+			used = HeadsUpEquity.addCards(used, hole);
+		}
+		if (dead != null) {
+			used = HeadsUpEquity.addCards(used, dead);
+		}
+		int deck[] = HeadsUpEquity.remainingCards(used);
+		int missing = BOARD_CARDS - board.length;
+		if (deck.length < missing) {
+			throw new IllegalArgumentException("Not enough cards left in the deck to complete the board.");
+		}
+
+		long boardMasks = HeadsUpEquity.suitMasks(board);
+		long holeMasks[] = new long[holes.length];
+		for (int p=0; p<holes.length; p++) {
+			holeMasks[p] = HeadsUpEquity.suitMasks(holes[p]) | boardMasks;
+		}
+
+		List<Worker> workers = new ArrayList<Worker>();
+		for (int w=0; w<pool.getParallelism(); w++) {
+			workers.add(new Worker(deck, missing, holeMasks, random.split()));
+		}
+
+		long start = System.nanoTime();
+		long deadline = start + timeBudgetMillis * 1000000L;
+		Result result;
+		do {
+			pool.invoke(new RoundTask(workers));
+			result = new Result(holes.length);
+			for (Worker worker : workers) {
+				result.merge(worker);
+			}
+		} while (result.getMaxStandardError() > targetStandardError && System.nanoTime() < deadline);
+		result._elapsedNanos = System.nanoTime() - start;
+		return result;
+	}
+
+
+	/**
+	 * Result
+	 * The estimated equities of the hands with their standard errors and 95% confidence intervals.
+	 */
+	public static class Result
+	{
+		private long _runouts = 0;
+		private final double _shares[];
+		private final double _squaredShares[];
+		private long _elapsedNanos = 0;
+
+		private Result(int players) {
+			_shares = new double[players];
+			_squaredShares = new double[players];
+		}
+
+		public int getPlayers() {
+			return _shares.length;
+		}
+
+		/**
+		 * It returns the number of the simulated runouts.
+		 */
+		public long getRunouts() {
+			return _runouts;
+		}
+
+		public long getElapsedNanos() {
+			return _elapsedNanos;
+		}
+
+		/**
+		 * It returns the equity of the hand, the share of the pot it wins on average.
+		 */
+		public double getEquity(int player) {
+			return _shares[player] / _runouts;
+		}
+
+		/**
+		 * It returns the standard error of the equity of the hand.
+		 */
+		public double getStandardError(int player) {
+			if (_runouts < 2) {
+				return Double.POSITIVE_INFINITY;
+			}
+			double mean = getEquity(player);
+			double variance = (_squaredShares[player] / _runouts - mean * mean) * _runouts / (_runouts - 1);
+			return Math.sqrt(Math.max(variance, 0.0) / _runouts);
+		}
+
+		public double getMaxStandardError() {
+			double max = 0.0;
+			for (int p=0; p<_shares.length; p++) {
+				max = Math.max(max, getStandardError(p));
+			}
+			return max;
+		}
+
+		/**
+		 * It returns the lower bound of the 95% confidence interval of the equity of the hand.
+		 */
+		public double getConfidenceLow(int player) {
+			return Math.max(0.0, getEquity(player) - Z_95 * getStandardError(player));
+		}
+
+		/**
+		 * It returns the upper bound of the 95% confidence interval of the equity of the hand.
+		 */
+		public double getConfidenceHigh(int player) {
+			return Math.min(1.0, getEquity(player) + Z_95 * getStandardError(player));
+		}
+
+		private void merge(Worker worker) {
+			_runouts += worker._runouts;
+			for (int p=0; p<_shares.length; p++) {
+				_shares[p] += worker._shares[p];
+				_squaredShares[p] += worker._squaredShares[p];
+			}
+		}
+
+		/** @see java.lang.Object.toString() */
+		public String toString() {
+			StringBuilder string = new StringBuilder();
+			for (int p=0; p<_shares.length; p++) {
+				string.append(String.format("Hand %d: %.3f%% [%.3f%%, %.3f%%]%n", 
+					p+1, 100*getEquity(p), 100*getConfidenceLow(p), 100*getConfidenceHigh(p)));
+			}
+			string.append("Runouts: ").append(_runouts).append('\n');
+			return string.toString();
+		}
+	}
+
+
+	/**
+	 * Worker
+	 * The state of the simulation of a thread, kept from round to round.
+	 */
+	private static class Worker
+	{
+		private final int _deck[];
+		private final int _missing;
+		private final long _holeMasks[];
+		private final SplittableRandom _random;
+		private final long _keys[];
+		private long _runouts = 0;
+		private final double _shares[];
+		private final double _squaredShares[];
+
+		Worker(int deck[], int missing, long holeMasks[], SplittableRandom random) {
+			_deck = deck.clone();
+			_missing = missing;
+			_holeMasks = holeMasks;
+			_random = random;
+			_keys = new long[holeMasks.length];
+			_shares = new double[holeMasks.length];
+			_squaredShares = new double[holeMasks.length];
+		}
+
+		/**
+		 * It simulates the specified number of runouts.
+		 */
+		void simulate(int runouts) {
+			int players = _holeMasks.length;
+			for (int n=0; n<runouts; n++) {
+				// The partial shuffle: the first _missing cards of the deck complete the board.
+				long boardMasks = 0L;
+				for (int i=0; i<_missing; i++) {
+					int j = i + _random.nextInt(_deck.length - i);
+					int card = _deck[j]; _deck[j] = _deck[i]; _deck[i] = card;
+					boardMasks |= HoldemEvaluator.suitMask(card);
+				}
+
+				long best = Long.MIN_VALUE;
+				int winners = 0;
+				for (int p=0; p<players; p++) {
+					long key = HoldemEvaluator.calcBestComparator(_holeMasks[p] | boardMasks);
+					_keys[p] = key;
+					if (key > best) {
+						best = key;
+						winners = 1;
+					} else if (key == best) {
+						winners++;
+					}
+				}
+				double share = 1.0 / winners;
+				for (int p=0; p<players; p++) {
+					if (_keys[p] == best) {
+						_shares[p] += share;
+						_squaredShares[p] += share * share;
+					}
+				}
+			}
+			_runouts += runouts;
+		}
+	}
+
+	/**
+	 * RoundTask
+	 * It runs a round of the simulation of every worker in parallel.
+	 */
+	@SuppressWarnings("serial")
+	private static class RoundTask extends RecursiveAction
+	{
+		private final List<Worker> _workers;
+
+		RoundTask(List<Worker> workers) {
+			_workers = workers;
+		}
+
+		@Override
+		protected void compute() {
+			List<RecursiveAction> rounds = new ArrayList<RecursiveAction>(_workers.size());
+			for (final Worker worker : _workers) {
+				rounds.add(new RecursiveAction() {
+					@Override
+					protected void compute() {
+						worker.simulate(RUNOUTS_PER_ROUND);
+					}
+				});
+			}
+			ForkJoinTask.invokeAll(rounds);
+		}
+	}
+}
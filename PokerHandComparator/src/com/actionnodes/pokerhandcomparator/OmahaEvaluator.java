@@ -0,0 +1,125 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+
+/**
+ * OmahaEvaluator
+ * The evaluation of Omaha hands (PLO4, PLO5 and PLO6: 4 to 6 hole cards), whose best 5-card hand is made of
+ * exactly 2 hole cards and exactly 3 board cards: 60 combinations for PLO4 and 100 for PLO5 on a 5-card board.
+ *
+ * The 3-card subsets of the board are pre-evaluated once per board, and the 2-card pairs of the hole cards
+ * once per hand, into the sums of the perfect hash weights of the card ranks and the ANDs of the suits 
+ * (see PokerHandEvaluator), so a combination costs an addition, an AND and a lookup of the class rank
+ * (see PokerHandEquivClassIDsIdea). If no 3 board cards share a suit, no combination is checked for a Flush.
+ * The result is the hand comparator value of the best 5-card hand, as PokerHand.getComparator() returns.
+ *
+ * An evaluator keeps its working arrays, so it evaluates without allocating any objects;
+ * it is not thread-safe, one evaluator per thread is supposed.
+ */
+public class OmahaEvaluator
+{
+	private static final int MIN_BOARD_CARDS = 3;
+	private static final int MAX_BOARD_CARDS = 5;
+	private static final int MIN_HOLE_CARDS = 4;
+	private static final int MAX_HOLE_CARDS = 6;
+
+	/**
+	 * The rank hash sums and the suit ANDs of the 3-card subsets of the board (up to 10),
+	 * and of the 2-card pairs of the hole cards (up to 15).
+	 */
+	private final int _tripleHashes[] = new int[10];
+	private final int _tripleSuits[] = new int[10];
+	private int _triples = 0;
+	private final int _pairHashes[] = new int[15];
+	private final int _pairSuits[] = new int[15];
+
+	/**
+	 * If any 3 board cards share a suit.
+	 */
+	private boolean _flushPossible = false;
+
+
+	/**
+	 * It pre-evaluates the 3-card subsets of the board.
+	 *
+	 * @param board 3 to 5 board int cards (see PokerHandEvaluator).
+	 */
+	public void setBoard(int board[]) {
+		if (board.length < MIN_BOARD_CARDS || board.length > MAX_BOARD_CARDS) {
+			throw new IllegalArgumentException("The board must have 3 to 5 cards.");
+		}
+		int triples = 0;
+		int flushSuits = 0;
+		for (int i=0; i<board.length; i++)
+		for (int j=i+1; j<board.length; j++)
+		for (int k=j+1; k<board.length; k++) {
+			_tripleHashes[triples] = 
+				PokerHandEvaluator.CARD_RANK_HASHES[board[i]] + PokerHandEvaluator.CARD_RANK_HASHES[board[j]] + 
+				PokerHandEvaluator.CARD_RANK_HASHES[board[k]];
+			_tripleSuits[triples] = 
+				PokerHandEvaluator.CARD_SUITS[board[i]] & PokerHandEvaluator.CARD_SUITS[board[j]] & PokerHandEvaluator.CARD_SUITS[board[k]];
+			flushSuits |= _tripleSuits[triples];
+			triples++;
+		}
+		_triples = triples;
+		_flushPossible = flushSuits != 0;
+	}
+
+	/**
+	 * It evaluates the hole int cards with the board set by setBoard().
+	 *
+	 * @param hole 4 to 6 hole int cards.
+	 * @return The hand comparator value of the best 5-card hand of 2 hole cards and 3 board cards.
+	 */
+	public long evaluate(int hole[]) {
+		if (hole.length < MIN_HOLE_CARDS || hole.length > MAX_HOLE_CARDS) {
+			throw new IllegalArgumentException("Omaha hand must have 4 to 6 hole cards.");
+		}
+		if (_triples == 0) {
+			throw new IllegalStateException("The board is not set.");
+		}
+		int pairs = 0;
+		int pairFlushSuits = 0;
+		for (int i=0; i<hole.length; i++)
+		for (int j=i+1; j<hole.length; j++) {
+			_pairHashes[pairs] = PokerHandEvaluator.CARD_RANK_HASHES[hole[i]] + PokerHandEvaluator.CARD_RANK_HASHES[hole[j]];
+			_pairSuits[pairs] = PokerHandEvaluator.CARD_SUITS[hole[i]] & PokerHandEvaluator.CARD_SUITS[hole[j]];
+			pairFlushSuits |= _pairSuits[pairs];
+			pairs++;
+		}
+
+		// The class rank 1 is the strongest.
+		int best = Integer.MAX_VALUE;
+		if (_flushPossible && pairFlushSuits != 0) {
+			for (int p=0; p<pairs; p++) {
+				for (int t=0; t<_triples; t++) {
+					int classRank = PokerHandEquivClassIDsIdea.lookupClassRank(
+						_pairHashes[p] + _tripleHashes[t], (_pairSuits[p] & _tripleSuits[t]) != 0);
+					if (classRank != 0 && classRank < best) best = classRank;
+				}
+			}
+		} else {
+			for (int p=0; p<pairs; p++) {
+				for (int t=0; t<_triples; t++) {
+					int classRank = PokerHandEquivClassIDsIdea.lookupClassRank(_pairHashes[p] + _tripleHashes[t], false);
+					if (classRank != 0 && classRank < best) best = classRank;
+				}
+			}
+		}
+		if (best == Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Cards do not make an Omaha hand.");
+		}
+		return PokerHandEvaluator.getClassComparator(best);
+	}
+
+	/**
+	 * It evaluates the hole int cards with the board.
+	 */
+	public long evaluate(int hole[], int board[]) {
+		setBoard(board);
+		return evaluate(hole);
+	}
+}
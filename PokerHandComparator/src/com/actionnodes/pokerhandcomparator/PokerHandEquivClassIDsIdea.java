@@ -1,121 +1,454 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator;
-
-/**
- * This class is just to indicate an idea of an alternative solution
- * to compare two 5-card poker hands
- * that must be faster and much simpler than the implemented PokerHand class.
- * 
- * But this solution requires first to calculate and fill out the array with 
- * all 7462 numerical identificators for all poker hand equivalence classes.
- */
-public class PokerHandEquivClassIDsIdea
-{
-	//TODO: Fill out the HandEquivalenceClasseRankingIDs array with all 7462 
-	//      numerical identificators for all poker hand equivalence classes, 
-	//      to provide the alternative implementation.
-	
-	/**
-	 * This array of 7462 long values represents the idea of an alternative implementation 
-	 * that should work faster than the current implementation of the 
-	 * PokerHand class.
-	 * This is an array of 7462 numerical identificators of poker hand equivalence classes, 
-	 * placed in ranking order. 
-	 * Any single element of this array 
-	 * represents and identifies a particular hand ranking equivalence class 
-	 * and may be used as a key for poker hand comparison. 
-	 * In a single element of the array, 
-	 * every 4 bits (a single hexadecimal digit) represent a number of cards of a particular rank 
-	 * (Ace,King,Queen,Jack,Ten,Nine,Eight,Seven,Six,Five,Four,Trey,Deuce), in the hand.
-	 * Note, this functionality cannot be provided by use of java.util.EnumSet.
-	 */
-	public static final long HandEquivalenceClasseRankingIDs[] = 
-	{
-		0x0001111100000000L, // Rank:    1   Hand: A, K, Q, J, Tn, same Suit,  Category: SF (Royal Straight Flush)
-		0x0000111110000000L, // Rank:    2   Hand: K, Q, J, Tn,N,  same Suit,  Category: SF (Straight Flush)
-		0x0000011111000000L, // Rank:    3   Hand: Q, J, Tn,N, E,  same Suit,  Category: SF (Straight Flush)
-		// ... ... ...
-		0x0004100000000000L, // Rank:   11   Hand: A, A, A, A, K               Category: K4 (Four of a Kind)
-		0x0004010000000000L, // Rank:   12   Hand: A, A, A, A, Q               Category: K4 (Four of a Kind)
-		0x0004001000000000L, // Rank:   13   Hand: A, A, A, A, J               Category: K4 (Four of a Kind)
-		// ... ... ...
-		// ... TODO all 7462 numerical identificators ...
-		// ... ... ...
-		// This is the last hand ranking sets:
-		0x0000000000110111L, // Rank: 7461   Hand: Sv,Sx,Fr,Tr,D               Category: HC (High Card)
-		0x0000000000101111L  // Rank: 7462   Hand: Sv,Fv,Fr,Tr,D               Category: HC (High Card)
-	};
-	
-	
-	/** 
-	 * This long-based "bit flags" member
-	 * represents and identifies a particular hand ranking equivalence class.  
-	 * Every 4 bits (a single hexadecimal digit) represent a number of cards of a particular rank
-	 * (Ace,King,Queen,Jack,Ten,Nine,Eight,Seven,Six,Five,Four,Trey,Deuce), in the hand.
-	 * Note, this functionality cannot be provided by use of java.util.EnumSet.
-	 */
-	private long _handCardRankingSum = 0x0000000000000000L;
-	
-	private Card _cards[] = null;
-	
-	/**
-	 * A hand always consists of five cards.
-	 */
-	private static final int CARDS_IN_HAND = 5;
-	
-	
-	/**
-	 * Constructor
-	 */
-	public PokerHandEquivClassIDsIdea(Card card1, Card card2, Card card3, Card card4, Card card5)
-	{
-		_cards = new Card[CARDS_IN_HAND];
-		_cards[0] = card1;
-		_cards[1] = card2;
-		_cards[2] = card3;
-		_cards[3] = card4;
-		_cards[4] = card5;
-		
-		// Get the hand card-ranking bits.
-		for (int i=0; i<CARDS_IN_HAND; i++) {
-			_handCardRankingSum += _cards[i]._rank.getValue();
-		}
-	}
-	
-	/**
-	 * It compares this PokerHand with the specified PokerHand for order. 
-	 * 
-	 * @param h1 Poker hand #1.
-	 * @param h2 Poker hand #2.
-	 * @return A negative integer, zero, or a positive integer 
-	 * as the 1st PokerHand is less than, equal to, or greater than the 2nd PokerHand.
-	 */
-	public static int compareHands(PokerHandEquivClassIDsIdea h1, PokerHandEquivClassIDsIdea h2)
-	{
-		int h1Rank = -1;
-		int h2Rank = -1;
-		for (int i=0; i<HandEquivalenceClasseRankingIDs.length; i++) {
-			if (h1._handCardRankingSum == HandEquivalenceClasseRankingIDs[i]) {
-				h1Rank = i;
-			}
-			if (h2._handCardRankingSum == HandEquivalenceClasseRankingIDs[i]) {
-				h2Rank = i;
-			}
-		}
-		
-		return 
-				h1Rank < h2Rank ? 1 
-				: h1Rank == h2Rank ? 0 
-				: -1;
-	}
-	
-}
-
-
-
-
-
-
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+/**
+ * This class implements an alternative solution
+ * to compare two 5-card poker hands
+ * that is faster and much simpler than the PokerHand class.
+ *
+ * The solution is based on the array of
+ * all 7462 numerical identificators for all poker hand equivalence classes,
+ * which is generated once, when the class is loaded,
+ * and on the lookup tables mapping a hand straight to its equivalence class rank.
+ */
+public class PokerHandEquivClassIDsIdea
+{
+	/**
+	 * The number of all distinct 5-card poker hand equivalence classes.
+	 */
+	public static final int HAND_EQUIVALENCE_CLASSES = 7462;
+
+	/**
+	 * The number of all distinct 5-card hands of the 52-card deck.
+	 */
+	public static final int FIVE_CARD_HANDS = 2598960;
+
+	/**
+	 * The flush flag is placed into the 14th hexadecimal digit of a numerical identificator,
+	 * right above the Ace digit, so it never interferes with the card-ranking digits.
+	 * A Flush and a High Card (as well as a Straight Flush and a Straight)
+	 * have the same card-ranking digits and differ by this flag only.
+	 */
+	public static final long FLUSH_FLAG = 0x0010000000000000L;
+
+	/**
+	 * Rank weights of the perfect hash of a hand card-ranking sum.
+	 * The weights are chosen so that any 5 cards (with no more than 4 cards of a rank)
+	 * give a unique sum of the weights of their ranks.
+	 * So the hash is the sum of the _handCardRankingSum hexadecimal digits
+	 * multiplied by these weights (instead of the powers of 16),
+	 * and it is small enough to index the lookup tables directly.
+	 */
+	static final int RANK_HASH_WEIGHTS[] =
+	{
+		0,		// Deuce
+		1,		// Trey
+		5,		// Four
+		22,		// Five
+		94,		// Six
+		312,	// Seven
+		992,	// Eight
+		2422,	// Nine
+		5624,	// Ten
+		12522,	// Jack
+		19998,	// Queen
+		43258,	// King
+		79415	// Ace
+	};
+
+	/**
+	 * The largest perfect hash value: A, A, A, A, K.
+	 */
+	static final int MAX_RANK_HASH = 4*RANK_HASH_WEIGHTS[12] + RANK_HASH_WEIGHTS[11];
+
+	/**
+	 * This is an array of 7462 numerical identificators of poker hand equivalence classes,
+	 * placed in ranking order.
+	 * Any single element of this array
+	 * represents and identifies a particular hand ranking equivalence class
+	 * and may be used as a key for poker hand comparison.
+	 * In a single element of the array,
+	 * every 4 bits (a single hexadecimal digit) represent a number of cards of a particular rank
+	 * (Ace,King,Queen,Jack,Ten,Nine,Eight,Seven,Six,Five,Four,Trey,Deuce), in the hand,
+	 * and the FLUSH_FLAG bit is set if all 5 cards are of the same suit.
+	 * Note, this functionality cannot be provided by use of java.util.EnumSet.
+	 *
+	 * The array is generated as follows:
+	 *   0x0011111100000000L, // Rank:    1   Hand: A, K, Q, J, Tn, same Suit,  Category: SF (Royal Straight Flush)
+	 *   0x0010111110000000L, // Rank:    2   Hand: K, Q, J, Tn,N,  same Suit,  Category: SF (Straight Flush)
+	 *   0x0010011111000000L, // Rank:    3   Hand: Q, J, Tn,N, E,  same Suit,  Category: SF (Straight Flush)
+	 *   ... ... ...
+	 *   0x0004100000000000L, // Rank:   11   Hand: A, A, A, A, K               Category: K4 (Four of a Kind)
+	 *   0x0004010000000000L, // Rank:   12   Hand: A, A, A, A, Q               Category: K4 (Four of a Kind)
+	 *   0x0004001000000000L, // Rank:   13   Hand: A, A, A, A, J               Category: K4 (Four of a Kind)
+	 *   ... ... ...
+	 *   0x0000000000110111L, // Rank: 7461   Hand: Sv,Sx,Fr,Tr,D               Category: HC (High Card)
+	 *   0x0000000000101111L  // Rank: 7462   Hand: Sv,Fv,Fr,Tr,D               Category: HC (High Card)
+	 * Do not modify the array.
+	 */
+	public static final long HandEquivalenceClasseRankingIDs[] = new long[HAND_EQUIVALENCE_CLASSES];
+
+	/**
+	 * The lookup tables of the equivalence class ranks (1 to 7462)
+	 * directly indexed by the perfect hash of a hand card-ranking sum,
+	 * for the hands of mixed suits and for the hands of the same suit (flushes).
+	 * The value 0 means no such hand.
+	 */
+	private static final short _classRanksByHash[] = new short[MAX_RANK_HASH+1];
+	private static final short _flushClassRanksByHash[] = new short[MAX_RANK_HASH+1];
+
+	/**
+	 * The rank of the first (the highest) equivalence class of every hand category,
+	 * indexed by the Categories ordinal.
+	 */
+	private static final int _categoryFirstClassRanks[] = new int[Categories.UNKNOWN.ordinal()];
+	private static final Categories CATEGORIES[] = Categories.values();
+
+	/**
+	 * The number of the 5-card hands of the equivalence classes weaker than the class of the rank,
+	 * indexed by the class rank (1 to 7462).
+	 */
+	private static final int _weakerHands[] = new int[HAND_EQUIVALENCE_CLASSES+1];
+
+	/**
+	 * The choices of the suits of 0 to 4 cards of a rank.
+	 */
+	private static final int SUIT_CHOICES[] = { 1, 4, 6, 4, 1 };
+
+	static {
+		generateHandEquivalenceClasseRankingIDs();
+
+		int hands = 0;
+		for (int classRank=HAND_EQUIVALENCE_CLASSES; classRank>=1; classRank--) {
+			_weakerHands[classRank] = hands;
+			hands += countHands(HandEquivalenceClasseRankingIDs[classRank-1]);
+		}
+		if (hands != FIVE_CARD_HANDS) {
+			throw new IllegalStateException("Counted "+hands+" 5-card hands instead of "+FIVE_CARD_HANDS+".");
+		}
+
+		for (int i=0; i<HAND_EQUIVALENCE_CLASSES; i++) {
+			long id = HandEquivalenceClasseRankingIDs[i];
+			short table[] = (id & FLUSH_FLAG) != 0 ? _flushClassRanksByHash : _classRanksByHash;
+			int hash = calcRankHash(id & ~FLUSH_FLAG);
+			if (table[hash] != 0) {
+				throw new IllegalStateException("Equivalence class IDs "+Long.toHexString(id)+" collide in the lookup table.");
+			}
+			table[hash] = (short)(i+1);
+		}
+	}
+
+
+	/**
+	 * This long-based "bit flags" member
+	 * represents and identifies a particular hand ranking equivalence class.
+	 * Every 4 bits (a single hexadecimal digit) represent a number of cards of a particular rank
+	 * (Ace,King,Queen,Jack,Ten,Nine,Eight,Seven,Six,Five,Four,Trey,Deuce), in the hand.
+	 * Note, this functionality cannot be provided by use of java.util.EnumSet.
+	 */
+	private long _handCardRankingSum = 0x0000000000000000L;
+
+	/**
+	 * The rank of the hand equivalence class, from 1 (Royal Straight Flush) to 7462.
+	 */
+	private int _classRank = 0;
+
+	private Card _cards[] = null;
+
+	/**
+	 * A hand always consists of five cards.
+	 */
+	private static final int CARDS_IN_HAND = 5;
+
+
+	/**
+	 * Constructor
+	 */
+	public PokerHandEquivClassIDsIdea(Card card1, Card card2, Card card3, Card card4, Card card5)
+	{
+		_cards = new Card[CARDS_IN_HAND];
+		_cards[0] = card1;
+		_cards[1] = card2;
+		_cards[2] = card3;
+		_cards[3] = card4;
+		_cards[4] = card5;
+
+		// Get the hand card-ranking bits, its perfect hash and the hand common suit.
+		int hash = 0;
+		int handSuit = 0xF;
+		for (int i=0; i<CARDS_IN_HAND; i++) {
+			_handCardRankingSum += _cards[i]._rank.getValue();
+			hash += RANK_HASH_WEIGHTS[_cards[i]._rank.ordinal()];
+			handSuit = handSuit & _cards[i]._suit.getValue();
+		}
+
+		// Only 5 cards of 5 different ranks make a Flush: same-suit paired cards (when duplicate cards are allowed)
+		// are looked up as a hand of mixed suits, as PokerHand categorizes them.
+		_classRank = lookupClassRank(hash, handSuit != 0 && hasDistinctRanks(_handCardRankingSum));
+		if (_classRank == 0) {
+			throw new IllegalArgumentException("Cards "+toString()+" do not make a 5-card poker hand.");
+		}
+	}
+
+
+	/**
+	 * It returns the rank of the hand equivalence class,
+	 * from 1 (Royal Straight Flush) to 7462 (Sv,Fv,Fr,Tr,D of mixed suits).
+	 */
+	public int getClassRank() {
+		return _classRank;
+	}
+
+	/**
+	 * It returns the rank of the equivalence class of a hand, from 1 to 7462,
+	 * or 0 if the arguments do not represent a 5-card poker hand.
+	 *
+	 * @param handCardRankingSum The hand card-ranking bits as in the _handCardRankingSum member.
+	 * @param flush If all 5 cards of the hand are of the same suit.
+	 */
+	public static int getClassRank(long handCardRankingSum, boolean flush) {
+		return lookupClassRank(calcRankHash(handCardRankingSum), flush);
+	}
+
+	/**
+	 * It returns the hand category of the equivalence class of the specified rank.
+	 */
+	public static Categories getCategory(int classRank) {
+		if (classRank < 1 || classRank > HAND_EQUIVALENCE_CLASSES) {
+			return Categories.UNKNOWN;
+		}
+		// The higher the category, the lower the rank of its first class.
+		for (int i=0; i<_categoryFirstClassRanks.length; i++) {
+			if (_categoryFirstClassRanks[i] <= classRank) {
+				return CATEGORIES[i];
+			}
+		}
+		return Categories.UNKNOWN;
+	}
+
+	/**
+	 * It returns the fraction of all 2,598,960 5-card hands which the hands of the equivalence class
+	 * of the specified rank beat (the hands of the same class tie), from 0.0 to 1.0 (exclusive),
+	 * or -1.0 if the rank is not a class rank.
+	 */
+	public static double getPercentile(int classRank) {
+		if (classRank < 1 || classRank > HAND_EQUIVALENCE_CLASSES) {
+			return -1.0;
+		}
+		return (double)_weakerHands[classRank] / FIVE_CARD_HANDS;
+	}
+
+	/**
+	 * It looks up the rank of the equivalence class of a hand by the perfect hash
+	 * of its card-ranking sum, i.e. by the sum of RANK_HASH_WEIGHTS of its cards.
+	 */
+	static int lookupClassRank(int rankHash, boolean flush) {
+		if (rankHash < 0 || rankHash > MAX_RANK_HASH) {
+			return 0;
+		}
+		return flush ? _flushClassRanksByHash[rankHash] : _classRanksByHash[rankHash];
+	}
+
+	/**
+	 * If the cards of a hand card-ranking sum are of 5 different ranks (every hexadecimal digit is 0 or 1),
+	 * the only hands which make a Flush when their cards are of the same suit.
+	 */
+	static boolean hasDistinctRanks(long handCardRankingSum) {
+		return (handCardRankingSum & 0x000EEEEEEEEEEEEEL) == 0;
+	}
+
+	/**
+	 * It calculates the perfect hash of a hand card-ranking sum
+	 * (the flush flag must be cleared).
+	 */
+	static int calcRankHash(long handCardRankingSum) {
+		int hash = 0;
+		// We start from the lowest rank, to see a number of cards of the rank (a hexadecimal digit).
+		for (int i=0; i < Ranks.enumSize; i++) {
+			hash += ((int)(handCardRankingSum & 0xFL)) * RANK_HASH_WEIGHTS[i];
+			// To see a number of cards of the next higher rank, we go to the next higher hexadecimal digit.
+			handCardRankingSum = handCardRankingSum >>> 4;
+		}
+		// No more than 4 cards of a rank.
+		return handCardRankingSum == 0 ? hash : -1;
+	}
+
+
+	/**
+	 * It generates the HandEquivalenceClasseRankingIDs array,
+	 * category by category from Straight Flush category to High Card category,
+	 * and within a category, from the highest card ranks to the lowest ones.
+	 */
+	private static void generateHandEquivalenceClasseRankingIDs() {
+		int n = 0;
+
+		_categoryFirstClassRanks[Categories.SF.ordinal()] = n+1;
+		// SF: Straight Flush, from the Royal Straight Flush (A K Q J T) to the Five-High Straight Flush (5 4 3 2 A).
+		for (int high=12; high>=3; high--) {
+			HandEquivalenceClasseRankingIDs[n++] = FLUSH_FLAG | straightID(high);
+		}
+		_categoryFirstClassRanks[Categories.K4.ordinal()] = n+1;
+		// K4: Four of a Kind and a kicker.
+		for (int quad=12; quad>=0; quad--) {
+			for (int kicker=12; kicker>=0; kicker--) {
+				if (kicker == quad) continue;
+				HandEquivalenceClasseRankingIDs[n++] = nibble(quad, 4) | nibble(kicker, 1);
+			}
+		}
+		_categoryFirstClassRanks[Categories.FH.ordinal()] = n+1;
+		// FH: Full House.
+		for (int three=12; three>=0; three--) {
+			for (int pair=12; pair>=0; pair--) {
+				if (pair == three) continue;
+				HandEquivalenceClasseRankingIDs[n++] = nibble(three, 3) | nibble(pair, 2);
+			}
+		}
+		_categoryFirstClassRanks[Categories.F.ordinal()] = n+1;
+		// F: Flush, 5 cards of 5 different ranks not in sequence.
+		n = generateDistinctRanksIDs(n, FLUSH_FLAG);
+		_categoryFirstClassRanks[Categories.S.ordinal()] = n+1;
+		// S: Straight.
+		for (int high=12; high>=3; high--) {
+			HandEquivalenceClasseRankingIDs[n++] = straightID(high);
+		}
+		_categoryFirstClassRanks[Categories.K3.ordinal()] = n+1;
+		// K3: Three of a Kind and 2 kickers.
+		for (int three=12; three>=0; three--) {
+			for (int k1=12; k1>=0; k1--) {
+				if (k1 == three) continue;
+				for (int k2=k1-1; k2>=0; k2--) {
+					if (k2 == three) continue;
+					HandEquivalenceClasseRankingIDs[n++] = nibble(three, 3) | nibble(k1, 1) | nibble(k2, 1);
+				}
+			}
+		}
+		_categoryFirstClassRanks[Categories.P2.ordinal()] = n+1;
+		// P2: Two Pair and a kicker.
+		for (int pair1=12; pair1>=0; pair1--) {
+			for (int pair2=pair1-1; pair2>=0; pair2--) {
+				for (int kicker=12; kicker>=0; kicker--) {
+					if (kicker == pair1 || kicker == pair2) continue;
+					HandEquivalenceClasseRankingIDs[n++] = nibble(pair1, 2) | nibble(pair2, 2) | nibble(kicker, 1);
+				}
+			}
+		}
+		_categoryFirstClassRanks[Categories.P1.ordinal()] = n+1;
+		// P1: One Pair and 3 kickers.
+		for (int pair=12; pair>=0; pair--) {
+			for (int k1=12; k1>=0; k1--) {
+				if (k1 == pair) continue;
+				for (int k2=k1-1; k2>=0; k2--) {
+					if (k2 == pair) continue;
+					for (int k3=k2-1; k3>=0; k3--) {
+						if (k3 == pair) continue;
+						HandEquivalenceClasseRankingIDs[n++] = nibble(pair, 2) | nibble(k1, 1) | nibble(k2, 1) | nibble(k3, 1);
+					}
+				}
+			}
+		}
+		_categoryFirstClassRanks[Categories.HC.ordinal()] = n+1;
+		// HC: High Card, 5 cards of 5 different ranks not in sequence.
+		n = generateDistinctRanksIDs(n, 0x0L);
+
+		if (n != HAND_EQUIVALENCE_CLASSES) {
+			throw new IllegalStateException("Generated "+n+" hand equivalence classes instead of "+HAND_EQUIVALENCE_CLASSES+".");
+		}
+	}
+
+	/**
+	 * It generates the IDs of the hands of 5 different ranks not in sequence (a Flush or a High Card),
+	 * from the highest card ranks to the lowest ones.
+	 *
+	 * @return The next free position in the HandEquivalenceClasseRankingIDs array.
+	 */
+	private static int generateDistinctRanksIDs(int n, long flushFlag) {
+		for (int r1=12; r1>=4; r1--) {
+			for (int r2=r1-1; r2>=3; r2--) {
+				for (int r3=r2-1; r3>=2; r3--) {
+					for (int r4=r3-1; r4>=1; r4--) {
+						for (int r5=r4-1; r5>=0; r5--) {
+							long id = nibble(r1, 1) | nibble(r2, 1) | nibble(r3, 1) | nibble(r4, 1) | nibble(r5, 1);
+							if (!isStraightID(id)) {
+								HandEquivalenceClasseRankingIDs[n++] = flushFlag | id;
+							}
+						}
+					}
+				}
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * It counts the 5-card hands of an equivalence class:
+	 * the choices of the suits of the cards of every rank (4 for a Flush or a Straight Flush),
+	 * without the 4 flushes if the 5 ranks are different.
+	 */
+	private static int countHands(long id) {
+		if ((id & FLUSH_FLAG) != 0) {
+			return 4;
+		}
+		int hands = 1;
+		int ranks = 0;
+		for (; id != 0; id >>>= 4) {
+			int cards = (int)(id & 0xFL);
+			hands *= SUIT_CHOICES[cards];
+			if (cards != 0) ranks++;
+		}
+		return ranks == 5 ? hands - 4 : hands;
+	}
+
+	/**
+	 * It returns the card-ranking bits of a Straight with the specified highest card rank index
+	 * (3, i.e. Five, for the Five-High Straight (5 4 3 2 A)).
+	 */
+	private static long straightID(int high) {
+		return high == 3
+			? nibble(12, 1) | 0x0000000000001111L
+			: 0x0000000000011111L << (4*(high-4));
+	}
+	private static boolean isStraightID(long id) {
+		for (int high=12; high>=3; high--) {
+			if (id == straightID(high)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * It returns the card-ranking bits of the specified number of cards of the rank with the specified index.
+	 */
+	private static long nibble(int rankIdx, int cards) {
+		return ((long)cards) << (4*rankIdx);
+	}
+
+
+	/**
+	 * It compares this PokerHand with the specified PokerHand for order.
+	 *
+	 * @param h1 Poker hand #1.
+	 * @param h2 Poker hand #2.
+	 * @return A negative integer, zero, or a positive integer
+	 * as the 1st PokerHand is less than, equal to, or greater than the 2nd PokerHand.
+	 */
+	public static int compareHands(PokerHandEquivClassIDsIdea h1, PokerHandEquivClassIDsIdea h2)
+	{
+		// The lower the class rank, the higher the hand.
+		return
+				h1._classRank < h2._classRank ? 1
+				: h1._classRank == h2._classRank ? 0
+				: -1;
+	}
+
+
+	/** @see java.lang.Object.toString() */
+	public String toString() {
+		String string = "";
+		for (int i=0; i<CARDS_IN_HAND; i++) {
+			string = string + " "+_cards[i]._suit.name() +"-"+ _cards[i]._rank.name()+" ";
+		}
+		return string;
+	}
+}
@@ -0,0 +1,299 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+
+/**
+ * PokerHandEvaluator
+ * Allocation-free evaluation of 5-card poker hands represented by primitive int cards.
+ *
+ * A card is an int from 0 to 51: (rank index << 2) | suit index,
+ * where the rank index is the Ranks ordinal (Deuce is 0, Ace is 12) and
+ * the suit index is the position of the Suits value bit (S is 0, H is 1, D is 2, C is 3).
+ *
+ * The evaluation returns the same hand ordering key as the PokerHand comparator value,
+ * using the lookup tables of the PokerHandEquivClassIDsIdea class.
+ */
+public final class PokerHandEvaluator
+{
+	private PokerHandEvaluator() {
+	}
+
+	/**
+	 * The number of cards in a deck.
+	 */
+	public static final int CARDS_IN_DECK = 52;
+
+	/**
+	 * A hand always consists of five cards.
+	 */
+	private static final int CARDS_IN_HAND = 5;
+
+	/**
+	 * The card-ranking bits (as in Ranks values), the perfect hash weights of the ranks
+	 * and the Suits values of all cards, indexed by the int card.
+	 */
+	static final long CARD_RANKING_VALUES[] = new long[CARDS_IN_DECK];
+	static final int CARD_RANK_HASHES[] = new int[CARDS_IN_DECK];
+	static final int CARD_SUITS[] = new int[CARDS_IN_DECK];
+
+	/**
+	 * The hand comparator values of all hand equivalence classes, indexed by the class rank.
+	 */
+	private static final long _classComparators[] = new long[PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES+1];
+
+	/**
+	 * The batch values of all cards, indexed by the int card: the perfect hash weight of the rank
+	 * below the one-hot count of the suit (a 3-bit field per suit above the BATCH_HASH_BITS bits).
+	 * The sum of the 5 batch values of a hand is its rank hash below its suit counts, and a suit count of 5 
+	 * (binary 101, the only count of up to 5 with both the bit 0 and the bit 2 set) is a Flush,
+	 * so a hand costs 5 loads and 4 additions before the lookup of its class rank.
+	 */
+	static final int BATCH_HASH_BITS = 19;
+	static final int CARD_BATCH_VALUES[] = new int[CARDS_IN_DECK];
+	private static final int BATCH_HASH_MASK = (1 << BATCH_HASH_BITS) - 1;
+	private static final int SUIT_COUNT_BITS = 3;
+	private static final int SUIT_COUNT_LOW_BITS = 0x249;
+
+	/**
+	 * The class ranks by the rank hash, and the Flush class ranks by the rank hash with the bit BATCH_HASH_BITS set
+	 * (0 for an invalid hash, e.g. of 5 Aces, the highest hash that fits BATCH_HASH_BITS bits).
+	 */
+	private static final short _batchClassRanks[] = new short[2 << BATCH_HASH_BITS];
+
+	static {
+		for (int card=0; card<CARDS_IN_DECK; card++) {
+			CARD_RANKING_VALUES[card] = rankOf(card).getValue();
+			CARD_RANK_HASHES[card] = PokerHandEquivClassIDsIdea.RANK_HASH_WEIGHTS[card >>> 2];
+			CARD_SUITS[card] = suitOf(card).getValue();
+		}
+		for (int classRank=1; classRank<_classComparators.length; classRank++) {
+			_classComparators[classRank] = calcClassComparator(classRank);
+		}
+
+		if (CARDS_IN_HAND*PokerHandEquivClassIDsIdea.RANK_HASH_WEIGHTS[Ranks.A.ordinal()] > BATCH_HASH_MASK) {
+			throw new IllegalStateException("The rank hash does not fit "+BATCH_HASH_BITS+" bits.");
+		}
+		for (int card=0; card<CARDS_IN_DECK; card++) {
+			CARD_BATCH_VALUES[card] = CARD_RANK_HASHES[card] | 1 << (BATCH_HASH_BITS + SUIT_COUNT_BITS*(card & 0x3));
+		}
+		for (int hash=0; hash<=PokerHandEquivClassIDsIdea.MAX_RANK_HASH; hash++) {
+			_batchClassRanks[hash] = (short)PokerHandEquivClassIDsIdea.lookupClassRank(hash, false);
+			_batchClassRanks[(1 << BATCH_HASH_BITS) | hash] = (short)PokerHandEquivClassIDsIdea.lookupClassRank(hash, true);
+		}
+	}
+
+
+	/**
+	 * It returns the int card of the specified suit and rank.
+	 */
+	public static int toCard(Suits suit, Ranks rank) {
+		if (suit == Suits.UNKNOWN || rank == Ranks.UNKNOWN) {
+			throw new IllegalArgumentException("Card "+suit.name()+"-"+rank.name()+" is not a card of the deck.");
+		}
+		return (rank.ordinal() << 2) | Integer.numberOfTrailingZeros(suit.getValue());
+	}
+
+	public static Ranks rankOf(int card) {
+		return Ranks.getElemValueByIdx(card >>> 2);
+	}
+
+	public static Suits suitOf(int card) {
+		return Suits.checkValue(1 << (card & 0x3));
+	}
+
+
+	/**
+	 * It evaluates a 5-card hand without allocating any objects.
+	 *
+	 * @return The hand comparator value, the same as PokerHand.getComparator() returns for the hand.
+	 */
+	public static long evaluate(int c1, int c2, int c3, int c4, int c5) {
+		int hash = CARD_RANK_HASHES[c1] + CARD_RANK_HASHES[c2] + CARD_RANK_HASHES[c3] + CARD_RANK_HASHES[c4] + CARD_RANK_HASHES[c5];
+		int handSuit = CARD_SUITS[c1] & CARD_SUITS[c2] & CARD_SUITS[c3] & CARD_SUITS[c4] & CARD_SUITS[c5];
+		int classRank = PokerHandEquivClassIDsIdea.lookupClassRank(hash, handSuit != 0);
+		if (classRank == 0) {
+			throw new IllegalArgumentException("Cards do not make a 5-card poker hand.");
+		}
+		return _classComparators[classRank];
+	}
+
+	/**
+	 * It evaluates a batch of 5-card hands in one tight loop, without allocating any objects.
+	 * The hands are interleaved (an array of hands, as the hands are usually dealt and stored);
+	 * see evaluateBatchColumns() for the column layout (an array of the card columns).
+	 *
+	 * @param cards The int cards of the hands, 5 consecutive cards per hand.
+	 * @param offset The index of the first card of the first hand.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the hands are put here, from the index 0;
+	 * they are the same as PokerHand.getComparator() returns.
+	 * @throws IllegalArgumentException If a card is not a card of the deck, or the cards of a hand do not make a hand.
+	 */
+	public static void evaluateBatch(int cards[], int offset, int count, long outKeys[]) {
+		checkBatch(cards, offset, count, CARDS_IN_HAND, outKeys);
+		for (int h=0, c=offset; h<count; h++, c+=CARDS_IN_HAND) {
+			outKeys[h] = getBatchComparator(
+				getBatchValue(cards[c]) + getBatchValue(cards[c+1]) + getBatchValue(cards[c+2]) +
+				getBatchValue(cards[c+3]) + getBatchValue(cards[c+4]));
+		}
+	}
+
+	/**
+	 * It evaluates a batch of 5-card hands in the column layout, without allocating any objects:
+	 * the card i of the hand h is at cards[offset + i*count + h], so every card column is read sequentially,
+	 * and the same card of the consecutive hands are adjacent (as the lanes of a vector are, see VectorBatchEvaluator).
+	 *
+	 * @param cards The 5 card columns of the hands, count int cards each.
+	 * @param offset The index of the first card of the first column.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the hands are put here, from the index 0.
+	 * @throws IllegalArgumentException If a card is not a card of the deck, or the cards of a hand do not make a hand.
+	 */
+	public static void evaluateBatchColumns(int cards[], int offset, int count, long outKeys[]) {
+		checkBatch(cards, offset, count, CARDS_IN_HAND, outKeys);
+		for (int h=0, c=offset; h<count; h++, c++) {
+			outKeys[h] = getBatchComparator(
+				getBatchValue(cards[c]) + getBatchValue(cards[c+count]) + getBatchValue(cards[c+2*count]) +
+				getBatchValue(cards[c+3*count]) + getBatchValue(cards[c+4*count]));
+		}
+	}
+
+	/**
+	 * It compares two 5-card hands for order without allocating any objects.
+	 *
+	 * @param a Poker hand #1, 5 int cards.
+	 * @param b Poker hand #2, 5 int cards.
+	 * @return A negative integer, zero, or a positive integer
+	 * as the 1st hand is less than, equal to, or greater than the 2nd hand.
+	 */
+	public static int compare(int a[], int b[]) {
+		long ka = evaluate(a[0], a[1], a[2], a[3], a[4]);
+		long kb = evaluate(b[0], b[1], b[2], b[3], b[4]);
+		return
+			ka < kb ? (-1)
+				: ka == kb ? 0
+				: 1;
+	}
+
+	/**
+	 * It combines a hand comparator value from the key items, 
+	 * the same way as PokerHand.calcComparator() does, but from the primitive rank indexes.
+	 * 
+	 * @param category The Categories ordinal.
+	 * @param r0 The rank indexes (Ranks ordinals), NO_RANK for the unused positions.
+	 */
+	static long comparator(int category, int r0, int r1, int r2, int r3, int r4) {
+		return
+			((long)category)<<(8*7) |
+			((long)r0)<<(8*6) |
+			((long)r1)<<(8*5) |
+			((long)r2)<<(8*4) |
+			((long)r3)<<(8*3) |
+			((long)r4)<<(8*2);
+	}
+	
+	/**
+	 * The rank index of an unused comparator position (the Ranks.UNKNOWN ordinal).
+	 */
+	static final int NO_RANK = Ranks.UNKNOWN.ordinal();
+	
+	/**
+	 * It returns the batch value of the int card, checked to be a card of the deck.
+	 */
+	static int getBatchValue(int card) {
+		if (card < 0 || card >= CARDS_IN_DECK) {
+			throw new IllegalArgumentException("Cards do not make a 5-card poker hand.");
+		}
+		return CARD_BATCH_VALUES[card];
+	}
+
+	/**
+	 * It returns the hand comparator value of a hand by the sum of the batch values of its 5 cards.
+	 */
+	static long getBatchComparator(int batchValueSum) {
+		int suitCounts = batchValueSum >>> BATCH_HASH_BITS;
+		boolean flush = (suitCounts & (suitCounts >>> 2) & SUIT_COUNT_LOW_BITS) != 0;
+		int classRank = _batchClassRanks[(batchValueSum & BATCH_HASH_MASK) | (flush ? 1 << BATCH_HASH_BITS : 0)];
+		if (classRank == 0) {
+			throw new IllegalArgumentException("Cards do not make a 5-card poker hand.");
+		}
+		return _classComparators[classRank];
+	}
+
+	/**
+	 * It checks the bounds of a batch of hands of the int cards.
+	 */
+	static void checkBatch(int cards[], int offset, int count, int cardsInHand, long outKeys[]) {
+		if (offset < 0 || count < 0 || (long)offset + (long)count*cardsInHand > cards.length) {
+			throw new IndexOutOfBoundsException("The batch of "+count+" hands from "+offset+" is out of the "+cards.length+" cards.");
+		}
+		if (count > outKeys.length) {
+			throw new IndexOutOfBoundsException("The keys of "+count+" hands do not fit the "+outKeys.length+" keys.");
+		}
+	}
+
+	/**
+	 * It returns the hand comparator value of the equivalence class of the specified rank.
+	 */
+	static long getClassComparator(int classRank) {
+		return _classComparators[classRank];
+	}
+
+	/**
+	 * It returns the rank of the equivalence class of the specified hand comparator value,
+	 * or 0 if it is not a comparator value of a 5-card poker hand.
+	 */
+	static int getClassRank(long comparator) {
+		// The class comparator values descend from the class rank 1 to the class rank 7462.
+		int low = 1;
+		int high = _classComparators.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			long middleComparator = _classComparators[middle];
+			if (middleComparator > comparator) {
+				low = middle + 1;
+			} else if (middleComparator < comparator) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return 0;
+	}
+
+
+	/**
+	 * It calculates the hand comparator value of an equivalence class,
+	 * decoding the card ranks from the equivalence class ID:
+	 * the highest card rank of a Straight (Flush),
+	 * otherwise the card ranks ordered by the number of cards of the rank, then by the rank.
+	 */
+	private static long calcClassComparator(int classRank) {
+		long id = PokerHandEquivClassIDsIdea.HandEquivalenceClasseRankingIDs[classRank-1];
+		Categories category = PokerHandEquivClassIDsIdea.getCategory(classRank);
+
+		Ranks cardRanks[] = new Ranks[CARDS_IN_HAND];
+		for (int i=0; i<cardRanks.length; i++) {cardRanks[i] = Ranks.UNKNOWN;}
+
+		if (category == Categories.SF || category == Categories.S) {
+			// The Five-High Straight (5 4 3 2 A) is the only one with both an Ace and a Deuce.
+			int high = (id & 0x000F00000000000FL) == 0x0001000000000001L
+				? Ranks.Fv.ordinal()
+				: (63 - Long.numberOfLeadingZeros(id & ~PokerHandEquivClassIDsIdea.FLUSH_FLAG)) / 4;
+			cardRanks[0] = Ranks.getElemValueByIdx(high);
+		} else {
+			int j = 0;
+			for (int count=4; count>=1; count--) {
+				for (int i=Ranks.enumSize-1; i>=0; i--) {
+					if (((id >>> (4*i)) & 0xFL) == count) {
+						cardRanks[j++] = Ranks.getElemValueByIdx(i);
+					}
+				}
+			}
+		}
+		return PokerHand.calcComparator(category, cardRanks);
+	}
+}
@@ -0,0 +1,254 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+
+/**
+ * PreflopEquityMatrix
+ * The exact preflop heads-up all-in equities of the 169 starting hand classes against each other
+ * (AA, AKs, AKo, ..., 22), each the average over all the pairs of the combos of the two classes
+ * which do not share a card (see RangeEquity, which enumerates every pair of the combos
+ * once per suit-isomorphic canonical form).
+ *
+ * The matrix is computed by a long batch job (main()), which writes the matrix cells computed so far
+ * to the file every CHECKPOINT_MILLIS, and resumes from the file when it is restarted.
+ * The file is small (114 KB) and loads in milliseconds.
+ *
+ * The class index is rank1 * 13 + rank2 of the rank indexes (Ranks ordinals):
+ * a pair when rank1 == rank2, a suited hand when rank1 > rank2, an offsuit hand when rank1 < rank2.
+ */
+public final class PreflopEquityMatrix
+{
+	/**
+	 * The file format:
+	 *   int   MAGIC
+	 *   int   VERSION
+	 *   int   the number of classes
+	 *   int   the number of the cells computed (in the computation order, see cellOrder())
+	 *   long  the CRC32 checksum of the matrix
+	 *   long  reserved
+	 *   float the matrix, row by row ...
+	 * all in the little-endian byte order.
+	 */
+	public static final int MAGIC = 0x4D454850; // "PHEM"
+	public static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+
+	public static final int CLASSES = 169;
+	private static final int RANKS = 13;
+	private static final String RANK_CHARS = "23456789TJQKA";
+
+	/**
+	 * The number of the cells above the diagonal, which are computed
+	 * (the cells below the diagonal are symmetric, and a class against itself has the equity of 1/2).
+	 */
+	public static final int CELLS = CLASSES * (CLASSES - 1) / 2;
+
+	private static final long CHECKPOINT_MILLIS = 60000;
+
+	/**
+	 * The equity of the row class against the column class.
+	 */
+	private final float _equities[];
+	private int _computedCells = 0;
+
+
+	private PreflopEquityMatrix() {
+		_equities = new float[CLASSES * CLASSES];
+		for (int c=0; c<CLASSES; c++) {
+			_equities[c * CLASSES + c] = 0.5f;
+		}
+	}
+
+
+	/**
+	 * It returns the class index of the starting hand of 2 int cards (see PokerHandEvaluator).
+	 */
+	public static int classIndex(int card1, int card2) {
+		int hi = Math.max(card1 >>> 2, card2 >>> 2);
+		int lo = Math.min(card1 >>> 2, card2 >>> 2);
+		return (card1 & 0x3) == (card2 & 0x3) ? hi * RANKS + lo : lo * RANKS + hi;
+	}
+
+	/**
+	 * It returns the class name, e.g. AA, AKs or AKo.
+	 */
+	public static String className(int classIndex) {
+		int rank1 = classIndex / RANKS;
+		int rank2 = classIndex % RANKS;
+		if (rank1 == rank2) {
+			return "" + RANK_CHARS.charAt(rank1) + RANK_CHARS.charAt(rank2);
+		}
+		return "" + RANK_CHARS.charAt(Math.max(rank1, rank2)) + RANK_CHARS.charAt(Math.min(rank1, rank2)) 
+			+ (rank1 > rank2 ? 's' : 'o');
+	}
+
+
+	/**
+	 * It returns the equity of the class 1 against the class 2.
+	 * It throws IllegalStateException if the cell has not been computed yet.
+	 */
+	public float equity(int class1, int class2) {
+		if (class1 != class2 && cellOrder(Math.min(class1, class2), Math.max(class1, class2)) >= _computedCells) {
+			throw new IllegalStateException("Equity of "+className(class1)+" against "+className(class2)+" is not computed yet.");
+		}
+		return _equities[class1 * CLASSES + class2];
+	}
+
+	/**
+	 * It returns the equity of the starting hand 1 against the starting hand 2 (2 int cards each),
+	 * the equity of their classes.
+	 */
+	public float equity(int hole1[], int hole2[]) {
+		return equity(classIndex(hole1[0], hole1[1]), classIndex(hole2[0], hole2[1]));
+	}
+
+	public int getComputedCells() {
+		return _computedCells;
+	}
+
+	public boolean isComplete() {
+		return _computedCells == CELLS;
+	}
+
+	/**
+	 * It returns the position of the cell above the diagonal (class1 < class2) in the computation order (row by row).
+	 */
+	private static int cellOrder(int class1, int class2) {
+		return class1 * CLASSES - class1 * (class1 + 1) / 2 + (class2 - class1 - 1);
+	}
+
+
+	/**
+	 * It loads the matrix file, which may be a checkpoint of an incomplete matrix.
+	 */
+	public static PreflopEquityMatrix load(Path file) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("File "+file+" is not a preflop equity matrix.");
+		}
+		int version = buffer.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("Preflop equity matrix "+file+" is of version "+version+" instead of "+VERSION+".");
+		}
+		int classes = buffer.getInt(8);
+		int computedCells = buffer.getInt(12);
+		long checksum = buffer.getLong(16);
+		if (classes != CLASSES || computedCells < 0 || computedCells > CELLS
+			|| buffer.capacity() != HEADER_SIZE + 4L*CLASSES*CLASSES) {
+			throw new IOException("Preflop equity matrix "+file+" is corrupted.");
+		}
+
+		buffer.position(HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		crc.update(buffer.duplicate());
+		if (crc.getValue() != checksum) {
+			throw new IOException("Preflop equity matrix "+file+" checksum mismatch.");
+		}
+		PreflopEquityMatrix matrix = new PreflopEquityMatrix();
+		buffer.asFloatBuffer().get(matrix._equities);
+		matrix._computedCells = computedCells;
+		return matrix;
+	}
+
+	/**
+	 * It writes the matrix to the file under a temporary name and then renames it,
+	 * so a crash never leaves the file (the checkpoint) half-written.
+	 */
+	public void save(Path file) throws IOException {
+		ByteBuffer data = ByteBuffer.allocate(4 * _equities.length).order(ByteOrder.LITTLE_ENDIAN);
+		data.asFloatBuffer().put(_equities);
+		CRC32 crc = new CRC32();
+		crc.update(data.duplicate());
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.putInt(CLASSES);
+		header.putInt(_computedCells);
+		header.putLong(crc.getValue());
+		header.putLong(0L);
+		header.flip();
+
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			while (header.hasRemaining()) channel.write(header);
+			while (data.hasRemaining()) channel.write(data);
+			channel.force(true);
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+
+	/**
+	 * It computes the matrix, resuming from the file if it exists, and checkpoints it to the file.
+	 */
+	public static PreflopEquityMatrix compute(Path file) throws IOException {
+		return compute(file, CELLS);
+	}
+
+	/**
+	 * It computes up to maxCells more cells of the matrix, resuming from the file if it exists,
+	 * and checkpoints it to the file.
+	 */
+	public static PreflopEquityMatrix compute(Path file, int maxCells) throws IOException {
+		PreflopEquityMatrix matrix = Files.exists(file) ? load(file) : new PreflopEquityMatrix();
+		HandRange ranges[] = new HandRange[CLASSES];
+		for (int c=0; c<CLASSES; c++) {
+			ranges[c] = HandRange.parse(className(c));
+		}
+
+		long checkpoint = System.currentTimeMillis() + CHECKPOINT_MILLIS;
+		int cells = 0;
+		for (int class1=0; class1<CLASSES && cells<maxCells; class1++) {
+			for (int class2=class1+1; class2<CLASSES && cells<maxCells; class2++) {
+				if (cellOrder(class1, class2) < matrix._computedCells) {
+					continue;
+				}
+				float equity = (float)RangeEquity.equity(ranges[class1], ranges[class2], new int[0], null).getEquity();
+				matrix._equities[class1 * CLASSES + class2] = equity;
+				matrix._equities[class2 * CLASSES + class1] = 1.0f - equity;
+				matrix._computedCells++;
+				cells++;
+				if (System.currentTimeMillis() >= checkpoint) {
+					matrix.save(file);
+					checkpoint = System.currentTimeMillis() + CHECKPOINT_MILLIS;
+				}
+			}
+		}
+		matrix.save(file);
+		return matrix;
+	}
+
+
+	/**
+	 * It computes (or completes) the matrix file.
+	 *
+	 * @param args The matrix file path.
+	 */
+	public static void main(String[] args) throws IOException {
+		Path file = Paths.get(args.length > 0 ? args[0] : "PreflopEquityMatrix.dat");
+
+		long start = System.nanoTime();
+		PreflopEquityMatrix matrix = compute(file);
+		System.out.println("Computed "+file+" ("+matrix.getComputedCells()+" cells) in "+(System.nanoTime()-start)/1000000+" ms.");
+
+		start = System.nanoTime();
+		matrix = load(file);
+		System.out.println("Loaded "+file+" in "+(System.nanoTime()-start)/1000000+" ms.");
+	}
+}
@@ -0,0 +1,367 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * RangeEquity
+ * The exact Texas Hold'em equity of a hand range against another hand range (see HandRange) on a board.
+ * The combos which contain a dead card or a board card are removed from the ranges,
+ * and the pairs of the combos which share a card (block each other) are not counted.
+ * Every pair of the combos counts with the product of their weights.
+ *
+ * The runouts of the board are enumerated once, split between the tasks of a fork/join pool (see HeadsUpEquity),
+ * and the hand comparator value of every combo is evaluated once per board and then reused 
+ * for all the pairs of the combo, so the work is boards x (combos + pairs of combos), with no allocations per board.
+ *
+ * Preflop (no board and no dead cards), the exact equity of every pair of the combos is taken from a cache
+ * keyed by the suit-isomorphic canonical form of the pair: e.g. AsAh vs KsKh and AdAc vs KdKc are the same,
+ * so AA vs KK takes 3 heads-up enumerations instead of 36, and the cache is kept for the following calls.
+ */
+public final class RangeEquity
+{
+	private RangeEquity() {
+	}
+
+	private static final int BOARD_CARDS = 5;
+	private static final int SUITS = 4;
+
+	/**
+	 * The number of the board prefixes a fork/join task enumerates by itself, without splitting.
+	 */
+	private static final int PREFIXES_PER_TASK = 4;
+
+	/**
+	 * The 24 permutations of the 4 suits.
+	 */
+	private static final int SUIT_PERMUTATIONS[][] = new int[24][];
+	static {
+		int n = 0;
+		for (int s0=0; s0<SUITS; s0++)
+		for (int s1=0; s1<SUITS; s1++)
+		for (int s2=0; s2<SUITS; s2++)
+		for (int s3=0; s3<SUITS; s3++) {
+			if (s0 != s1 && s0 != s2 && s0 != s3 && s1 != s2 && s1 != s3 && s2 != s3) {
+				SUIT_PERMUTATIONS[n++] = new int[] { s0, s1, s2, s3 };
+			}
+		}
+	}
+
+	/**
+	 * The preflop heads-up equities of the pairs of the combos by their canonical forms.
+	 */
+	private static final Map<Integer,HeadsUpEquity.Result> _preflopCache = new ConcurrentHashMap<Integer,HeadsUpEquity.Result>();
+
+
+	/**
+	 * It returns the equity of the range 1 against the range 2, in the common fork/join pool.
+	 *
+	 * @param board 0 to 5 board int cards (see PokerHandEvaluator).
+	 * @param dead The int cards known to be out of the deck (e.g. folded), or null.
+	 */
+	public static Result equity(HandRange range1, HandRange range2, int board[], int dead[]) {
+		return equity(range1, range2, board, dead, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * It returns the equity of the range 1 against the range 2, in the specified fork/join pool.
+	 */
+	public static Result equity(HandRange range1, HandRange range2, int board[], int dead[], ForkJoinPool pool) {
+		if (board.length > BOARD_CARDS) {
+			throw new IllegalArgumentException("The board must have up to 5 cards.");
+		}
+		long used = HeadsUpEquity.addCards(0L, board);
+		if (dead != null) {
+			used = HeadsUpEquity.addCards(used, dead);
+		}
+		HandRange r1 = range1.without(used);
+		HandRange r2 = range2.without(used);
+
+		// The pairs of the combos which do not block each other.
+		int pairs = 0;
+		int pairs1[] = new int[r1.size() * r2.size()];
+		int pairs2[] = new int[r1.size() * r2.size()];
+		double pairWeights[] = new double[r1.size() * r2.size()];
+		for (int i=0; i<r1.size(); i++) {
+			for (int j=0; j<r2.size(); j++) {
+				if ((r1.getCombo(i) & r2.getCombo(j)) == 0 && r1.getWeight(i) * r2.getWeight(j) > 0.0) {
+					pairs1[pairs] = i;
+					pairs2[pairs] = j;
+					pairWeights[pairs++] = r1.getWeight(i) * r2.getWeight(j);
+				}
+			}
+		}
+		if (pairs == 0) {
+			throw new IllegalArgumentException("The ranges have no pairs of combos left to compare.");
+		}
+
+		if (board.length == 0 && used == 0L) {
+			Result result = new Result();
+			for (int p=0; p<pairs; p++) {
+				HeadsUpEquity.Result pair = preflopEquity(r1.getCombo(pairs1[p]), r2.getCombo(pairs2[p]), pool);
+				double weight = pairWeights[p] / pair.getBoards();
+				result._wins += weight * pair.getWins();
+				result._ties += weight * pair.getTies();
+				result._losses += weight * pair.getLosses();
+			}
+			result._pairs = pairs;
+			return result;
+		}
+
+		int deck[] = HeadsUpEquity.remainingCards(used);
+		int missing = BOARD_CARDS - board.length;
+		if (deck.length < missing + 4) {
+			throw new IllegalArgumentException("Not enough cards left in the deck to complete the board.");
+		}
+		int prefixes[][] = HeadsUpEquity.boardPrefixes(deck.length, missing);
+		Ranges ranges = new Ranges(r1, r2, Arrays.copyOf(pairs1, pairs), Arrays.copyOf(pairs2, pairs),
+			Arrays.copyOf(pairWeights, pairs), deck, HeadsUpEquity.suitMasks(board), prefixes, missing - prefixes[0].length);
+		Result result = pool.invoke(new RunoutTask(ranges, 0, prefixes.length));
+		result._pairs = pairs;
+		return result;
+	}
+
+
+	/**
+	 * It returns the preflop heads-up equity of the combo 1 against the combo 2 from the cache.
+	 */
+	private static HeadsUpEquity.Result preflopEquity(long combo1, long combo2, ForkJoinPool pool) {
+		int key = canonicalForm(combo1, combo2);
+		HeadsUpEquity.Result result = _preflopCache.get(key);
+		if (result == null) {
+			int hole1[] = { (key >>> 18) & 0x3F, (key >>> 12) & 0x3F };
+			int hole2[] = { (key >>> 6) & 0x3F, key & 0x3F };
+			result = HeadsUpEquity.equity(hole1, hole2, new int[0], null, pool);
+			_preflopCache.putIfAbsent(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * It returns the suit-isomorphic canonical form of a pair of combos: the least of the 24 suit permutations 
+	 * of the pair, with the higher card first in every combo, as the 4 int cards of 6 bits each.
+	 */
+	static int canonicalForm(long combo1, long combo2) {
+		int a1 = 63 - Long.numberOfLeadingZeros(combo1), a2 = Long.numberOfTrailingZeros(combo1);
+		int b1 = 63 - Long.numberOfLeadingZeros(combo2), b2 = Long.numberOfTrailingZeros(combo2);
+		int min = Integer.MAX_VALUE;
+		for (int permutation[] : SUIT_PERMUTATIONS) {
+			int pa1 = (a1 & ~0x3) | permutation[a1 & 0x3], pa2 = (a2 & ~0x3) | permutation[a2 & 0x3];
+			int pb1 = (b1 & ~0x3) | permutation[b1 & 0x3], pb2 = (b2 & ~0x3) | permutation[b2 & 0x3];
+			int key = 
+				Math.max(pa1, pa2) << 18 | Math.min(pa1, pa2) << 12 |
+				Math.max(pb1, pb2) << 6 | Math.min(pb1, pb2);
+			min = Math.min(min, key);
+		}
+		return min;
+	}
+
+
+	/**
+	 * Result
+	 * The weighted numbers of the runouts the range 1 wins, ties and loses.
+	 */
+	public static class Result
+	{
+		private double _wins = 0.0;
+		private double _ties = 0.0;
+		private double _losses = 0.0;
+		private int _pairs = 0;
+
+		/**
+		 * It returns the number of the pairs of the combos compared.
+		 */
+		public int getPairs() {
+			return _pairs;
+		}
+
+		public double getWinPercent() {
+			return 100.0 * _wins / (_wins + _ties + _losses);
+		}
+
+		public double getTiePercent() {
+			return 100.0 * _ties / (_wins + _ties + _losses);
+		}
+
+		public double getLossPercent() {
+			return 100.0 * _losses / (_wins + _ties + _losses);
+		}
+
+		/**
+		 * It returns the equity of the range 1, the share of the pot it wins on average (a tie splits the pot).
+		 */
+		public double getEquity() {
+			return (_wins + 0.5 * _ties) / (_wins + _ties + _losses);
+		}
+
+		private void merge(Result other) {
+			_wins += other._wins;
+			_ties += other._ties;
+			_losses += other._losses;
+		}
+
+		/** @see java.lang.Object.toString() */
+		public String toString() {
+			return String.format("Win: %.3f%% Tie: %.3f%% Loss: %.3f%% (%d pairs of combos)",
+				getWinPercent(), getTiePercent(), getLossPercent(), _pairs);
+		}
+	}
+
+
+	/**
+	 * Ranges
+	 * The combos, the pairs of the combos and the runouts shared by the tasks.
+	 */
+	private static class Ranges
+	{
+		final long _combos1[];
+		final long _combos2[];
+		final long _suitMasks1[];
+		final long _suitMasks2[];
+		final int _pairs1[];
+		final int _pairs2[];
+		final double _pairWeights[];
+		final int _deck[];
+		final long _boardMasks;
+		final int _prefixes[][];
+		final int _suffixCards;
+
+		Ranges(HandRange r1, HandRange r2, int pairs1[], int pairs2[], double pairWeights[],
+				int deck[], long boardMasks, int prefixes[][], int suffixCards) {
+			_combos1 = combos(r1);
+			_combos2 = combos(r2);
+			_suitMasks1 = suitMasks(_combos1);
+			_suitMasks2 = suitMasks(_combos2);
+			_pairs1 = pairs1;
+			_pairs2 = pairs2;
+			_pairWeights = pairWeights;
+			_deck = deck;
+			_boardMasks = boardMasks;
+			_prefixes = prefixes;
+			_suffixCards = suffixCards;
+		}
+
+		private static long[] combos(HandRange range) {
+			long combos[] = new long[range.size()];
+			for (int i=0; i<combos.length; i++) combos[i] = range.getCombo(i);
+			return combos;
+		}
+
+		private static long[] suitMasks(long combos[]) {
+			long masks[] = new long[combos.length];
+			for (int i=0; i<combos.length; i++) {
+				masks[i] = 
+					HoldemEvaluator.suitMask(Long.numberOfTrailingZeros(combos[i])) | 
+					HoldemEvaluator.suitMask(63 - Long.numberOfLeadingZeros(combos[i]));
+			}
+			return masks;
+		}
+	}
+
+	/**
+	 * RunoutTask
+	 * It enumerates the runouts of the board prefixes from the index from (inclusive) to the index to (exclusive).
+	 */
+	@SuppressWarnings("serial")
+	private static class RunoutTask extends RecursiveTask<Result>
+	{
+		/**
+		 * The hand comparator value of a combo which shares a card with the board.
+		 */
+		private static final long BLOCKED = -1L;
+
+		private final Ranges _ranges;
+		private final int _from;
+		private final int _to;
+		private Result _result = null;
+		private long _keys1[] = null;
+		private long _keys2[] = null;
+
+		RunoutTask(Ranges ranges, int from, int to) {
+			_ranges = ranges;
+			_from = from;
+			_to = to;
+		}
+
+		@Override
+		protected Result compute() {
+			if (_to - _from > PREFIXES_PER_TASK) {
+				int middle = (_from + _to) >>> 1;
+				RunoutTask low = new RunoutTask(_ranges, _from, middle);
+				low.fork();
+				Result result = new RunoutTask(_ranges, middle, _to).compute();
+				result.merge(low.join());
+				return result;
+			}
+
+			_result = new Result();
+			_keys1 = new long[_ranges._combos1.length];
+			_keys2 = new long[_ranges._combos2.length];
+			for (int p=_from; p<_to; p++) {
+				long cards = 0L;
+				long masks = _ranges._boardMasks;
+				int next = 0;
+				for (int i : _ranges._prefixes[p]) {
+					cards |= 1L << _ranges._deck[i];
+					masks |= HoldemEvaluator.suitMask(_ranges._deck[i]);
+					next = i + 1;
+				}
+				enumerate(next, _ranges._suffixCards, cards, masks);
+			}
+			return _result;
+		}
+
+		/**
+		 * It completes the board by the cards cards of the deck from the index from on, and evaluates the showdowns.
+		 *
+		 * @param boardCards The card mask of the runout cards (the board cards given are not in the ranges).
+		 * @param boardMasks The per-suit rank masks of all the board cards.
+		 */
+		private void enumerate(int from, int cards, long boardCards, long boardMasks) {
+			if (cards == 0) {
+				showdown(boardCards, boardMasks);
+				return;
+			}
+			int deck[] = _ranges._deck;
+			for (int i=from; i<=deck.length-cards; i++) {
+				enumerate(i + 1, cards - 1, boardCards | (1L << deck[i]), boardMasks | HoldemEvaluator.suitMask(deck[i]));
+			}
+		}
+
+		private void showdown(long boardCards, long boardMasks) {
+			Ranges r = _ranges;
+			for (int i=0; i<_keys1.length; i++) {
+				_keys1[i] = (r._combos1[i] & boardCards) != 0 ? BLOCKED : HoldemEvaluator.calcBestComparator(r._suitMasks1[i] | boardMasks);
+			}
+			for (int j=0; j<_keys2.length; j++) {
+				_keys2[j] = (r._combos2[j] & boardCards) != 0 ? BLOCKED : HoldemEvaluator.calcBestComparator(r._suitMasks2[j] | boardMasks);
+			}
+			double wins = 0.0, ties = 0.0, losses = 0.0;
+			for (int p=0; p<r._pairWeights.length; p++) {
+				long key1 = _keys1[r._pairs1[p]];
+				long key2 = _keys2[r._pairs2[p]];
+				if (key1 == BLOCKED || key2 == BLOCKED) {
+					continue;
+				}
+				if (key1 > key2) {
+					wins += r._pairWeights[p];
+				} else if (key1 == key2) {
+					ties += r._pairWeights[p];
+				} else {
+					losses += r._pairWeights[p];
+				}
+			}
+			_result._wins += wins;
+			_result._ties += ties;
+			_result._losses += losses;
+		}
+	}
+}
@@ -0,0 +1,324 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+
+
+/**
+ * ShortDeckEvaluator
+ * The evaluation of the Short-deck (6+) Hold'em hands: the 36-card deck without the ranks 2 to 5,
+ * where a Flush beats a Full House and A-6-7-8-9 is the lowest Straight (the wheel).
+ * The cards are the int cards of PokerHandEvaluator of the ranks 6 to A.
+ *
+ * The result is the Short-deck key of the best 5-card hand of 5 to 7 cards: the dense rank of its
+ * hand equivalence class, from 1 (the weakest, J-9-8-7-6) to CLASSES (the Royal Flush);
+ * the higher the key, the stronger the hand, equal keys tie.
+ *
+ * The keys are precomputed for every hand shape with no generic rule checks at the evaluation:
+ * - The numbers of the cards of the 9 ranks are packed into the base-5 number (the sum of 5 to the rank
+ *   of every card), which indexes the table of the keys of the best hands without a Flush (5^9 entries);
+ * - A suit of 5 or more cards indexes the table of the keys of the best Flushes by its 9-bit rank mask.
+ * 7 cards of 36 cannot make Four of a Kind and a Flush at once, so a Flush is the best hand if there is one.
+ */
+public final class ShortDeckEvaluator
+{
+	private ShortDeckEvaluator() {
+	}
+
+	/**
+	 * The number of the Short-deck hand equivalence classes.
+	 */
+	public static final int CLASSES = 1404;
+
+	/**
+	 * The lowest rank of the deck (Six), and the number of the ranks.
+	 */
+	private static final int LOWEST_RANK = Ranks.Sx.ordinal();
+	private static final int RANKS = Ranks.enumSize - LOWEST_RANK;
+
+	private static final int CARDS_IN_HAND = 5;
+
+	/**
+	 * The per-suit rank masks of the cards are packed into a long, 16 bits per suit (see HoldemEvaluator).
+	 */
+	private static final int SUIT_MASK_BITS = 16;
+	private static final int RANK_MASK = (1 << RANKS) - 1;
+
+	/**
+	 * The Short-deck category order, the strength of every category.
+	 */
+	private static final int _categoryStrengths[] = new int[Categories.values().length];
+
+	/**
+	 * The base-5 weight of the rank of every int card, and its bit in the per-suit rank masks;
+	 * 0 for the cards of the ranks 2 to 5.
+	 */
+	private static final int _cardCountWeights[] = new int[PokerHandEvaluator.CARDS_IN_DECK];
+	private static final long _cardSuitMasks[] = new long[PokerHandEvaluator.CARDS_IN_DECK];
+
+	/**
+	 * The keys of the best non-Flush hands by the base-5 rank counts,
+	 * and of the best Flushes by the rank mask of the Flush suit.
+	 */
+	private static final short _keys[];
+	private static final short _flushKeys[] = new short[1 << RANKS];
+
+	/**
+	 * The category of every key.
+	 */
+	private static final Categories _categories[] = new Categories[CLASSES+1];
+
+	static {
+		Categories order[] = {
+			Categories.HC, Categories.P1, Categories.P2, Categories.K3, Categories.S,
+			Categories.FH, Categories.F, Categories.K4, Categories.SF };
+		for (int i=0; i<order.length; i++) {
+			_categoryStrengths[order[i].ordinal()] = i;
+		}
+
+		int weights[] = new int[RANKS];
+		int size = 1;
+		for (int r=0; r<RANKS; r++) {
+			weights[r] = size;
+			size *= 5;
+		}
+		for (int card=LOWEST_RANK<<2; card<PokerHandEvaluator.CARDS_IN_DECK; card++) {
+			_cardCountWeights[card] = weights[(card >>> 2) - LOWEST_RANK];
+			_cardSuitMasks[card] = 1L << ((card & 0x3)*SUIT_MASK_BITS + (card >>> 2) - LOWEST_RANK);
+		}
+
+		// The values of all 5-card hands (every rank multiset and every Flush rank set is a class)
+		// sorted into the dense keys.
+		long values[] = new long[CLASSES];
+		int n = 0;
+		int counts[] = new int[RANKS];
+		for (int index=0; index<size; index++) {
+			if (decode(index, counts) == CARDS_IN_HAND) {
+				values[n++] = bestValue(counts);
+			}
+		}
+		for (int mask=0; mask<_flushKeys.length; mask++) {
+			if (Integer.bitCount(mask) == CARDS_IN_HAND) {
+				values[n++] = flushValue(mask);
+			}
+		}
+		if (n != CLASSES) {
+			throw new IllegalStateException("Short-deck hand classes: "+n);
+		}
+		Arrays.sort(values);
+		for (int k=0; k<CLASSES; k++) {
+			_categories[k+1] = categoryOf(values[k]);
+		}
+
+		_keys = new short[size];
+		for (int index=0; index<size; index++) {
+			int cards = decode(index, counts);
+			if (cards >= CARDS_IN_HAND && cards <= 7) {
+				_keys[index] = (short)(Arrays.binarySearch(values, bestValue(counts)) + 1);
+			}
+		}
+		for (int mask=0; mask<_flushKeys.length; mask++) {
+			if (Integer.bitCount(mask) >= CARDS_IN_HAND) {
+				_flushKeys[mask] = (short)(Arrays.binarySearch(values, flushValue(mask)) + 1);
+			}
+		}
+	}
+
+
+	/**
+	 * It evaluates a 5-card hand.
+	 *
+	 * @return The Short-deck key of the hand.
+	 */
+	public static int evaluate(int c1, int c2, int c3, int c4, int c5) {
+		long suitMasks = _cardSuitMasks[c1] | _cardSuitMasks[c2] | _cardSuitMasks[c3] | _cardSuitMasks[c4] | _cardSuitMasks[c5];
+		return lookup(suitMasks, 5, _cardCountWeights[c1] + _cardCountWeights[c2] + _cardCountWeights[c3] +
+			_cardCountWeights[c4] + _cardCountWeights[c5]);
+	}
+
+	/**
+	 * It evaluates a 7-card hand (2 hole cards and 5 board cards) without allocating any objects.
+	 *
+	 * @return The Short-deck key of the best 5-card hand of the 7 cards.
+	 */
+	public static int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+		long suitMasks = _cardSuitMasks[c1] | _cardSuitMasks[c2] | _cardSuitMasks[c3] | _cardSuitMasks[c4] |
+			_cardSuitMasks[c5] | _cardSuitMasks[c6] | _cardSuitMasks[c7];
+		return lookup(suitMasks, 7, _cardCountWeights[c1] + _cardCountWeights[c2] + _cardCountWeights[c3] + 
+			_cardCountWeights[c4] + _cardCountWeights[c5] + _cardCountWeights[c6] + _cardCountWeights[c7]);
+	}
+
+	/**
+	 * It evaluates 5 to 7 int cards.
+	 *
+	 * @return The Short-deck key of the best 5-card hand of the cards.
+	 */
+	public static int evaluate(int cards[]) {
+		if (cards.length < CARDS_IN_HAND || cards.length > 7) {
+			throw new IllegalArgumentException("Hand must have 5 to 7 cards.");
+		}
+		long suitMasks = 0;
+		int index = 0;
+		for (int card : cards) {
+			suitMasks |= _cardSuitMasks[card];
+			index += _cardCountWeights[card];
+		}
+		return lookup(suitMasks, cards.length, index);
+	}
+
+	/**
+	 * It returns the hand category of the Short-deck key.
+	 */
+	public static Categories getCategory(int key) {
+		if (key < 1 || key > CLASSES) {
+			throw new IllegalArgumentException("Key "+key+" is not a Short-deck key.");
+		}
+		return _categories[key];
+	}
+
+	/**
+	 * If the int card is a card of the 36-card deck.
+	 */
+	public static boolean isShortDeckCard(int card) {
+		return card >= 0 && card < PokerHandEvaluator.CARDS_IN_DECK && _cardSuitMasks[card] != 0;
+	}
+
+
+	/**
+	 * It looks up the key of the cards.
+	 *
+	 * @param suitMasks The per-suit rank masks of the cards.
+	 * @param cards The number of the cards.
+	 * @param index The base-5 rank counts of the cards.
+	 */
+	private static int lookup(long suitMasks, int cards, int index) {
+		// A card of the ranks 2 to 5 or a duplicate card leaves fewer bits than cards.
+		if (Long.bitCount(suitMasks) != cards) {
+			throw new IllegalArgumentException("Cards do not make a Short-deck hand.");
+		}
+		int s = (int)suitMasks & RANK_MASK;
+		int h = (int)(suitMasks >>> SUIT_MASK_BITS) & RANK_MASK;
+		int d = (int)(suitMasks >>> 2*SUIT_MASK_BITS) & RANK_MASK;
+		int c = (int)(suitMasks >>> 3*SUIT_MASK_BITS) & RANK_MASK;
+		return 
+			Integer.bitCount(s) >= CARDS_IN_HAND ? _flushKeys[s] :
+			Integer.bitCount(h) >= CARDS_IN_HAND ? _flushKeys[h] :
+			Integer.bitCount(d) >= CARDS_IN_HAND ? _flushKeys[d] :
+			Integer.bitCount(c) >= CARDS_IN_HAND ? _flushKeys[c] : _keys[index];
+	}
+
+	/**
+	 * It decodes the base-5 rank counts.
+	 *
+	 * @return The number of the cards.
+	 */
+	private static int decode(int index, int counts[]) {
+		int cards = 0;
+		for (int r=0; r<RANKS; r++) {
+			counts[r] = index % 5;
+			index /= 5;
+			cards += counts[r];
+		}
+		return cards;
+	}
+
+	/**
+	 * It returns the value of the best 5-card hand without a Flush of the rank counts:
+	 * the Short-deck category strength above the rank nibbles (the ranks by the count, then by the rank).
+	 */
+	private static long bestValue(int counts[]) {
+		int mask = 0;
+		int quads = -1, trips = -1, trips2 = -1, pair = -1, pair2 = -1;
+		for (int r=RANKS-1; r>=0; r--) {
+			if (counts[r] == 0) continue;
+			mask |= 1 << r;
+			if (counts[r] == 4) quads = r;
+			else if (counts[r] == 3) {
+				if (trips < 0) trips = r; else if (trips2 < 0) trips2 = r;
+			} else if (counts[r] == 2) {
+				if (pair < 0) pair = r; else if (pair2 < 0) pair2 = r;
+			}
+		}
+		if (quads >= 0) {
+			return value(Categories.K4, nibble(quads) << 4 | highest(mask & ~(1 << quads), 1));
+		}
+		if (trips >= 0 && (trips2 >= 0 || pair >= 0)) {
+			return value(Categories.FH, nibble(trips) << 4 | nibble(Math.max(trips2, pair)));
+		}
+		int straight = straightHigh(mask);
+		if (straight >= 0) {
+			return value(Categories.S, nibble(straight));
+		}
+		if (trips >= 0) {
+			return value(Categories.K3, nibble(trips) << 8 | highest(mask & ~(1 << trips), 2));
+		}
+		if (pair2 >= 0) {
+			return value(Categories.P2, 
+				nibble(pair) << 8 | nibble(pair2) << 4 | highest(mask & ~(1 << pair) & ~(1 << pair2), 1));
+		}
+		if (pair >= 0) {
+			return value(Categories.P1, nibble(pair) << 12 | highest(mask & ~(1 << pair), 3));
+		}
+		return value(Categories.HC, highest(mask, 5));
+	}
+
+	/**
+	 * It returns the value of the best Flush or Straight Flush of the rank mask of a suit.
+	 */
+	private static long flushValue(int mask) {
+		int straight = straightHigh(mask);
+		return straight >= 0 ? value(Categories.SF, nibble(straight)) : value(Categories.F, highest(mask, 5));
+	}
+
+	/**
+	 * It returns the high rank of the highest Straight of the rank mask (the Nine of A-6-7-8-9), or -1.
+	 */
+	private static int straightHigh(int mask) {
+		for (int high=RANKS-1; high>=4; high--) {
+			if ((mask >>> (high - 4) & 0x1F) == 0x1F) return high;
+		}
+		int wheel = 1 << (RANKS - 1) | 0xF;
+		return (mask & wheel) == wheel ? 3 : -1;
+	}
+
+	/**
+	 * It returns the nibbles of the highest ranks of the rank mask, the highest one first
+	 * (the nibble is the rank plus 1, see nibble()).
+	 */
+	private static int highest(int mask, int ranks) {
+		int nibbles = 0;
+		for (int r=RANKS-1; r>=0 && ranks>0; r--) {
+			if ((mask & (1 << r)) != 0) {
+				nibbles = (nibbles << 4) | nibble(r);
+				ranks--;
+			}
+		}
+		return nibbles;
+	}
+
+	private static int nibble(int rank) {
+		return rank + 1;
+	}
+
+	/**
+	 * It returns the category strength above the rank nibbles
+	 * (the number of the nibbles is the same for all hands of a category).
+	 */
+	private static long value(Categories category, int nibbles) {
+		return ((long)_categoryStrengths[category.ordinal()] << 24) | nibbles;
+	}
+
+	/**
+	 * It returns the category of the value.
+	 */
+	private static Categories categoryOf(long value) {
+		int strength = (int)(value >>> 24);
+		for (Categories category : Categories.values()) {
+			if (category != Categories.UNKNOWN && _categoryStrengths[category.ordinal()] == strength) return category;
+		}
+		return Categories.UNKNOWN;
+	}
+}
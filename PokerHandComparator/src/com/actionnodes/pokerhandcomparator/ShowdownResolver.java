@@ -0,0 +1,207 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+
+/**
+ * ShowdownResolver
+ * The showdown of up to 10 players by their hand comparator values (see PokerHand.getComparator(),
+ * the higher the stronger, equal values tie): the ranking of the players, and the division of the main pot
+ * and the side pots by the chips every player has put in.
+ *
+ * The pots are the layers of the chips put in: the main pot is the chips up to the smallest all-in amount
+ * from every player, the next side pot is the chips above it up to the next amount, and so on.
+ * A pot goes to the strongest players who put in the chips of the pot and have not folded;
+ * a split pot is divided evenly, and the odd chips go one by one to the winners
+ * in the seat order from the specified first seat (e.g. the first seat left of the button).
+ * The chips of a layer no live player has reached (e.g. put in by a player who folded later)
+ * go to the winners of the highest pot.
+ * In the hi/lo split games every pot is split between the high and the low winners (see resolveHiLo()).
+ *
+ * A resolver keeps its working arrays, so it resolves showdowns without allocating any objects;
+ * it is not thread-safe, one resolver per thread (per table) is supposed.
+ */
+public class ShowdownResolver
+{
+	public static final int MAX_PLAYERS = 10;
+
+	/**
+	 * The hand comparator value of a player who has folded.
+	 */
+	public static final long FOLDED = Long.MIN_VALUE;
+
+	/**
+	 * The distinct amounts of the chips put in, in the ascending order.
+	 */
+	private final long _levels[] = new long[MAX_PLAYERS];
+
+	/**
+	 * The lowest low key of a qualifying low (see LowHandEvaluator.NO_LOW).
+	 */
+	private static final long MIN_LOW_KEY = LowHandEvaluator.NO_LOW + 1;
+
+
+	/**
+	 * It ranks the players by their hand comparator values: the place of a player is 1 plus the number
+	 * of the players with stronger hands, so the tied players share the same place.
+	 *
+	 * @param keys The hand comparator values of the players, FOLDED for a folded player.
+	 * @param players The number of the players.
+	 * @param places The places of the players are put here; a folded player gets 0.
+	 * @return The number of the winners (the players of the place 1).
+	 */
+	public int rank(long keys[], int players, int places[]) {
+		checkPlayers(players);
+		int winners = 0;
+		for (int p=0; p<players; p++) {
+			if (keys[p] == FOLDED) {
+				places[p] = 0;
+				continue;
+			}
+			int place = 1;
+			for (int q=0; q<players; q++) {
+				if (keys[q] > keys[p]) place++;
+			}
+			places[p] = place;
+			if (place == 1) winners++;
+		}
+		return winners;
+	}
+
+	/**
+	 * It divides the pots between the players.
+	 *
+	 * @param keys The hand comparator values of the players, FOLDED for a folded player.
+	 * @param contributions The chips every player has put in the pot.
+	 * @param players The number of the players.
+	 * @param firstSeat The seat the odd chips go from.
+	 * @param payouts The chips every player wins are put here.
+	 */
+	public void resolve(long keys[], long contributions[], int players, int firstSeat, long payouts[]) {
+		resolve(keys, null, contributions, players, firstSeat, payouts);
+	}
+
+	/**
+	 * It divides the pots of a hi/lo split game (e.g. Omaha Hi/Lo, Stud Hi/Lo) between the players in one pass:
+	 * every pot is split into the high half and the low half (the odd chip of the halves goes to the high half),
+	 * and the high winners scoop the pot if no player of the pot has a qualifying low.
+	 *
+	 * @param hiKeys The hand comparator values of the players, FOLDED for a folded player.
+	 * @param loKeys The low keys of the players (see LowHandEvaluator), the higher the better;
+	 *   LowHandEvaluator.NO_LOW (or lower) for a player without a qualifying low.
+	 * @param contributions The chips every player has put in the pot.
+	 * @param players The number of the players.
+	 * @param firstSeat The seat the odd chips go from.
+	 * @param payouts The chips every player wins are put here.
+	 */
+	public void resolveHiLo(long hiKeys[], long loKeys[], long contributions[], int players, int firstSeat, long payouts[]) {
+		resolve(hiKeys, loKeys, contributions, players, firstSeat, payouts);
+	}
+
+	private void resolve(long keys[], long loKeys[], long contributions[], int players, int firstSeat, long payouts[]) {
+		checkPlayers(players);
+		if (firstSeat < 0 || firstSeat >= players) {
+			throw new IllegalArgumentException("First seat "+firstSeat+" is not a seat of the "+players+" players.");
+		}
+
+		// The distinct amounts put in, sorted by insertion.
+		int levels = 0;
+		for (int p=0; p<players; p++) {
+			payouts[p] = 0;
+			long amount = contributions[p];
+			if (amount < 0) {
+				throw new IllegalArgumentException("Player "+p+" has put in a negative amount.");
+			}
+			if (amount == 0) continue;
+			int i = levels;
+			while (i > 0 && _levels[i-1] > amount) i--;
+			if (i > 0 && _levels[i-1] == amount) continue;
+			System.arraycopy(_levels, i, _levels, i + 1, levels - i);
+			_levels[i] = amount;
+			levels++;
+		}
+
+		long previous = 0;
+		long orphan = 0;
+		long lastLevel = -1;
+		for (int l=0; l<levels; l++) {
+			long level = _levels[l];
+			long pot = 0;
+			for (int p=0; p<players; p++) {
+				pot += Math.min(contributions[p], level) - Math.min(contributions[p], previous);
+			}
+			previous = level;
+			if (!split(keys, loKeys, contributions, players, firstSeat, level, pot, payouts)) {
+				orphan += pot;
+			} else {
+				lastLevel = level;
+			}
+		}
+		if (orphan > 0) {
+			if (lastLevel < 0) {
+				throw new IllegalArgumentException("All players have folded.");
+			}
+			split(keys, loKeys, contributions, players, firstSeat, lastLevel, orphan, payouts);
+		}
+	}
+
+	/**
+	 * It awards the pot to the high winners, or splits it between the high and the low winners.
+	 *
+	 * @return false if no live player has put in the level amount.
+	 */
+	private static boolean split(long keys[], long loKeys[], long contributions[], int players, int firstSeat,
+			long level, long pot, long payouts[]) {
+		if (loKeys == null || !award(loKeys, keys, MIN_LOW_KEY, contributions, players, firstSeat, level, pot / 2, payouts)) {
+			return award(keys, keys, FOLDED + 1, contributions, players, firstSeat, level, pot, payouts);
+		}
+		award(keys, keys, FOLDED + 1, contributions, players, firstSeat, level, pot - pot / 2, payouts);
+		return true;
+	}
+
+	/**
+	 * It awards the pot to the live players of the best keys not lower than the minimum key
+	 * who have put in the level amount.
+	 *
+	 * @param liveKeys The hand comparator values, FOLDED for a folded player.
+	 * @return false if there are no such players.
+	 */
+	private static boolean award(long keys[], long liveKeys[], long minKey, long contributions[], int players, 
+			int firstSeat, long level, long pot, long payouts[]) {
+		long best = FOLDED;
+		int winners = 0;
+		for (int p=0; p<players; p++) {
+			if (liveKeys[p] == FOLDED || keys[p] < minKey || contributions[p] < level) continue;
+			if (keys[p] > best) {
+				best = keys[p];
+				winners = 1;
+			} else if (keys[p] == best) {
+				winners++;
+			}
+		}
+		if (winners == 0) {
+			return false;
+		}
+		long share = pot / winners;
+		long oddChips = pot % winners;
+		for (int i=0; i<players; i++) {
+			int p = (firstSeat + i) % players;
+			if (keys[p] == best && liveKeys[p] != FOLDED && contributions[p] >= level) {
+				payouts[p] += share;
+				if (oddChips > 0) {
+					payouts[p]++;
+					oddChips--;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void checkPlayers(int players) {
+		if (players < 1 || players > MAX_PLAYERS) {
+			throw new IllegalArgumentException("Showdown must have 1 to "+MAX_PLAYERS+" players.");
+		}
+	}
+}
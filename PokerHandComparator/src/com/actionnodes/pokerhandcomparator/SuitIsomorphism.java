@@ -0,0 +1,394 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import java.util.Arrays;
+
+
+/**
+ * SuitIsomorphism
+ * The dense indexing of the card combinations of a round layout (e.g. 2 hole cards, then 3 flop cards)
+ * up to the permutations of the suits, which do not change any hand ranking, equity or enumeration result:
+ * the 1,326 starting hands make 169 classes (new SuitIsomorphism(2)), the 22,100 flops make 1,755 classes
+ * (new SuitIsomorphism(3)), and the 25,989,600 starting hands with a flop make 1,286,792 classes
+ * (new SuitIsomorphism(2, 3)). So a job computes every class once, for its representative,
+ * and weights the result by the multiplicity of the class, the number of the combinations in it.
+ *
+ * The suit of an int card (see PokerHandEvaluator) is the bit index of its Suits value. The cards of a suit make
+ * a rank mask per round, and the rank masks of a suit make its round tuple (the first round in the highest bits).
+ * The canonical form of a combination sorts the 4 suits by their round tuples, from the highest one,
+ * so the suits of the same round tuples are interchangeable, and the combinations of a class differ
+ * by the order of the distinct round tuples only: the multiplicity is 24 over the factorials of the numbers
+ * of the suits of the same round tuples (e.g. 6 for AA, 4 for AKs, 12 for AKo).
+ *
+ * The canonical rank masks of a round (of the 4 sorted suits) make its round key. The classes are indexed
+ * round by round: the round keys of the extensions of every class of the previous rounds are sorted
+ * in a range of their own, so a combination is indexed by one binary search per round.
+ * The tables are built by the enumeration of every class of the previous rounds with all the cards of the round,
+ * once per SuitIsomorphism, so the bigger layouts take longer to build (about 10 MB for the 1,286,792 flop classes).
+ * The number of the classes of a layout (see countClasses()) is counted up front, so a layout of more than
+ * MAX_CLASSES classes, e.g. the 2,428,287,420 classes of the starting hands with a flop, a turn and a river
+ * (new SuitIsomorphism(2, 3, 1, 1)), is rejected, and the round keys of every round are allocated once.
+ * The starting hands with 5 board cards (new SuitIsomorphism(2, 5)) make 123,156,254 classes (about a GB, a minute to build).
+ */
+public class SuitIsomorphism
+{
+	private static final int SUITS = 4;
+	private static final int RANKS = 13;
+	private static final int RANK_MASK = (1 << RANKS) - 1;
+	private static final int MAX_ROUNDS = 4;
+	private static final int MAX_CARDS = 7;
+
+	/**
+	 * The most classes of a layout: its class indexes are ints, and its round keys are an array.
+	 */
+	public static final long MAX_CLASSES = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The number of the permutations of the 4 suits.
+	 */
+	private static final int PERMUTATIONS = 24;
+
+	/**
+	 * The cycle types of the suit permutations: the number of the permutations of the type, and the numbers
+	 * of the card orbits of 1 to 4 cards (a suit cycle of every rank makes an orbit of the cycle length).
+	 */
+	private static final int CYCLE_TYPES[][] = {
+		{1, 52, 0, 0, 0},	// The identity.
+		{6, 26, 13, 0, 0},	// A swap of 2 suits.
+		{3, 0, 26, 0, 0},	// 2 swaps.
+		{8, 13, 0, 13, 0},	// A cycle of 3 suits.
+		{6, 0, 0, 0, 13},	// A cycle of 4 suits.
+	};
+
+	/**
+	 * The number of the cards of every round.
+	 */
+	private final int _roundCards[];
+	private final int _cards;
+
+	/**
+	 * The round keys of the classes of every round, indexed by the class index of the round,
+	 * and the first class index of the extensions of every class of the previous rounds
+	 * (one more than the classes of the previous rounds, a single class before the first round).
+	 */
+	private final long _keys[][];
+	private final int _offsets[][];
+
+	/**
+	 * The multiplicities of the classes of the last round.
+	 */
+	private final byte _multiplicities[];
+
+
+	/**
+	 * Constructor
+	 *
+	 * @param roundCards The number of the cards of every round, 1 to 4 rounds of up to 7 cards in total
+	 *                   and of up to MAX_CLASSES classes, e.g. 2 for the starting hands, 3 for the flops,
+	 *                   or 2, 3 for the starting hands with a flop.
+	 */
+	public SuitIsomorphism(int... roundCards)
+	{
+		if (roundCards.length < 1 || roundCards.length > MAX_ROUNDS) {
+			throw new IllegalArgumentException("There must be 1 to 4 rounds.");
+		}
+		int cards = 0;
+		for (int n : roundCards) {
+			if (n < 1) {
+				throw new IllegalArgumentException("A round must have at least 1 card.");
+			}
+			cards += n;
+		}
+		if (cards > MAX_CARDS) {
+			throw new IllegalArgumentException("The rounds must have up to 7 cards in total.");
+		}
+		long classes = countClasses(roundCards);
+		if (classes > MAX_CLASSES) {
+			throw new IllegalArgumentException("The rounds "+Arrays.toString(roundCards)+" make "+classes+" classes, more than "+MAX_CLASSES+".");
+		}
+		_roundCards = roundCards.clone();
+		_cards = cards;
+		_keys = new long[roundCards.length][];
+		_offsets = new int[roundCards.length][];
+		for (int round=0; round<roundCards.length; round++) {
+			buildRound(round);
+		}
+
+		int last = roundCards.length - 1;
+		_multiplicities = new byte[_keys[last].length];
+		long tuples[] = new long[SUITS];
+		for (int index=0; index<_multiplicities.length; index++) {
+			Arrays.fill(tuples, 0L);
+			representativeTuples(last, index, tuples);
+			_multiplicities[index] = (byte)multiplicity(tuples);
+		}
+	}
+
+
+	/**
+	 * It returns the number of the classes (of the combinations of all the rounds).
+	 */
+	public int size() {
+		return _multiplicities.length;
+	}
+
+	/**
+	 * It returns the number of the cards of all the rounds.
+	 */
+	public int getCards() {
+		return _cards;
+	}
+
+	/**
+	 * It returns the dense index of the class of the combination, from 0 to size()-1.
+	 *
+	 * @param cards The int cards of all the rounds, round by round (in any order within a round).
+	 */
+	public int index(int cards[]) {
+		if (cards.length != _cards) {
+			throw new IllegalArgumentException("The combination must have "+_cards+" cards.");
+		}
+		long tuples[] = new long[SUITS];
+		long used = 0L;
+		for (int round=0, i=0; round<_roundCards.length; round++) {
+			int shift = tupleShift(round);
+			for (int end=i+_roundCards[round]; i<end; i++) {
+				int card = cards[i];
+				if (card < 0 || card >= PokerHandEvaluator.CARDS_IN_DECK || (used & (1L << card)) != 0) {
+					throw new IllegalArgumentException("Cards "+Arrays.toString(cards)+" are not distinct int cards.");
+				}
+				used |= 1L << card;
+				tuples[card & 0x3] |= 1L << (shift + (card >>> 2));
+			}
+		}
+		sortDescending(tuples);
+
+		int index = 0;
+		for (int round=0; round<_roundCards.length; round++) {
+			index = Arrays.binarySearch(_keys[round], _offsets[round][index], _offsets[round][index+1], roundKey(tuples, round));
+		}
+		return index;
+	}
+
+	/**
+	 * It returns the multiplicity of the class, the number of the combinations in it (1 to 24).
+	 */
+	public int multiplicity(int index) {
+		return _multiplicities[index];
+	}
+
+	/**
+	 * It returns the canonical representative combination of the class, round by round,
+	 * its suits in the order of their round tuples (Spades first).
+	 */
+	public int[] representative(int index) {
+		long tuples[] = new long[SUITS];
+		representativeTuples(_roundCards.length - 1, index, tuples);
+		int cards[] = new int[_cards];
+		int n = 0;
+		for (int round=0; round<_roundCards.length; round++) {
+			for (int suit=0; suit<SUITS; suit++) {
+				int ranks = (int)(tuples[suit] >>> tupleShift(round)) & RANK_MASK;
+				for (; ranks != 0; ranks &= ranks - 1) {
+					cards[n++] = Integer.numberOfTrailingZeros(ranks) << 2 | suit;
+				}
+			}
+		}
+		return cards;
+	}
+
+
+	/**
+	 * It returns the number of the classes of the round layout, without building it: by Burnside's lemma,
+	 * the average over the 24 suit permutations of the numbers of the combinations they do not change
+	 * (the combinations of whole card orbits of the permutation in every round).
+	 *
+	 * @param roundCards The number of the cards of every round.
+	 */
+	public static long countClasses(int... roundCards) {
+		long fixed = 0;
+		for (int type[] : CYCLE_TYPES) {
+			fixed += type[0] * countFixed(roundCards, 0, roundCards.length == 0 ? 0 : roundCards[0], 1, Arrays.copyOfRange(type, 1, 1+SUITS));
+		}
+		return fixed / PERMUTATIONS;
+	}
+
+	/**
+	 * It counts the combinations of whole card orbits: the remaining cards of the round taken by the orbits
+	 * of the size and the bigger ones, and the cards of the next rounds taken by the orbits left.
+	 *
+	 * @param orbits The numbers of the remaining orbits of 1 to 4 cards.
+	 */
+	private static long countFixed(int roundCards[], int round, int cards, int size, int orbits[]) {
+		if (size > SUITS) {
+			if (cards != 0) {
+				return 0;
+			}
+			round++;
+			return round >= roundCards.length ? 1 : countFixed(roundCards, round, roundCards[round], 1, orbits);
+		}
+		long count = 0;
+		int available = orbits[size-1];
+		for (int taken=0; taken<=available && taken*size<=cards; taken++) {
+			orbits[size-1] = available - taken;
+			count += combinations(available, taken) * countFixed(roundCards, round, cards - taken*size, size+1, orbits);
+		}
+		orbits[size-1] = available;
+		return count;
+	}
+
+
+	/**
+	 * It builds the round keys of the classes of the round: every class of the previous rounds,
+	 * by its representative, is extended by all the combinations of the remaining cards,
+	 * and the distinct round keys of the extensions are sorted in its range.
+	 */
+	private void buildRound(int round) {
+		int prefixes = round == 0 ? 1 : _keys[round-1].length;
+		int offsets[] = new int[prefixes+1];
+		long keys[] = new long[(int)countClasses(Arrays.copyOf(_roundCards, round+1))];
+		int size = 0;
+
+		int k = _roundCards[round];
+		int shift = tupleShift(round);
+		long prefixTuples[] = new long[SUITS];
+		long tuples[] = new long[SUITS];
+		int remaining[] = new int[PokerHandEvaluator.CARDS_IN_DECK];
+		int pick[] = new int[k];
+		long extensions[] = null;
+		for (int prefix=0; prefix<prefixes; prefix++) {
+			Arrays.fill(prefixTuples, 0L);
+			if (round > 0) {
+				representativeTuples(round-1, prefix, prefixTuples);
+			}
+			int m = 0;
+			for (int card=0; card<PokerHandEvaluator.CARDS_IN_DECK; card++) {
+				if (!contains(prefixTuples, card)) {
+					remaining[m++] = card;
+				}
+			}
+			if (extensions == null) {
+				extensions = new long[(int)combinations(m, k)];
+			}
+
+			int n = 0;
+			for (int i=0; i<k; i++) pick[i] = i;
+			while (true) {
+				System.arraycopy(prefixTuples, 0, tuples, 0, SUITS);
+				for (int i=0; i<k; i++) {
+					int card = remaining[pick[i]];
+					tuples[card & 0x3] |= 1L << (shift + (card >>> 2));
+				}
+				sortDescending(tuples);
+				extensions[n++] = roundKey(tuples, round);
+
+				// The next combination of k of the m remaining cards.
+				int i = k - 1;
+				while (i >= 0 && pick[i] == m - k + i) i--;
+				if (i < 0) break;
+				pick[i]++;
+				for (int j=i+1; j<k; j++) pick[j] = pick[j-1] + 1;
+			}
+
+			Arrays.sort(extensions, 0, n);
+			for (int i=0; i<n; i++) {
+				if (i == 0 || extensions[i] != extensions[i-1]) {
+					keys[size++] = extensions[i];
+				}
+			}
+			offsets[prefix+1] = size;
+		}
+		_keys[round] = keys;
+		_offsets[round] = offsets;
+	}
+
+	/**
+	 * If the round tuples contain the card in any round.
+	 */
+	private boolean contains(long tuples[], int card) {
+		for (int round=0; round<_roundCards.length; round++) {
+			if ((tuples[card & 0x3] & (1L << (tupleShift(round) + (card >>> 2)))) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * It ORs the canonical round tuples of the representative of the class of the round and of its previous rounds
+	 * into the tuples (the sorted suits), walking back from the class to the classes of the previous rounds it extends.
+	 */
+	private void representativeTuples(int round, int index, long tuples[]) {
+		for (; round >= 0; round--) {
+			long key = _keys[round][index];
+			for (int suit=0; suit<SUITS; suit++) {
+				tuples[suit] |= ((key >>> (RANKS*(SUITS-1-suit))) & RANK_MASK) << tupleShift(round);
+			}
+			if (round > 0) {
+				int prefix = Arrays.binarySearch(_offsets[round], index);
+				// The offsets strictly ascend, the class is in the range of the last offset not above it.
+				index = prefix >= 0 ? prefix : -prefix - 2;
+			}
+		}
+	}
+
+	/**
+	 * It returns the position of the rank mask of the round in a round tuple, the first round in the highest bits.
+	 */
+	private int tupleShift(int round) {
+		return RANKS*(_roundCards.length - 1 - round);
+	}
+
+	/**
+	 * It returns the round key of the sorted round tuples: the rank masks of the round of the 4 suits,
+	 * the first suit in the highest bits.
+	 */
+	private long roundKey(long tuples[], int round) {
+		int shift = tupleShift(round);
+		long key = 0L;
+		for (int suit=0; suit<SUITS; suit++) {
+			key = (key << RANKS) | ((tuples[suit] >>> shift) & RANK_MASK);
+		}
+		return key;
+	}
+
+
+	/**
+	 * It sorts the 4 round tuples from the highest one.
+	 */
+	private static void sortDescending(long tuples[]) {
+		for (int i=1; i<SUITS; i++) {
+			long tuple = tuples[i];
+			int j = i;
+			for (; j > 0 && tuples[j-1] < tuple; j--) {
+				tuples[j] = tuples[j-1];
+			}
+			tuples[j] = tuple;
+		}
+	}
+
+	/**
+	 * It returns the multiplicity of the sorted round tuples: 24 over the factorials
+	 * of the numbers of the suits of the same round tuples.
+	 */
+	private static int multiplicity(long tuples[]) {
+		int permutations = 1;
+		int same = 1;
+		for (int suit=1; suit<SUITS; suit++) {
+			same = tuples[suit] == tuples[suit-1] ? same + 1 : 1;
+			permutations *= same;
+		}
+		return PERMUTATIONS / permutations;
+	}
+
+	private static long combinations(int n, int k) {
+		long c = 1;
+		for (int i=0; i<k; i++) {
+			c = c * (n - i) / (i + 1);
+		}
+		return c;
+	}
+}
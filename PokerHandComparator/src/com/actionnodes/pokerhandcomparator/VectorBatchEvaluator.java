@@ -0,0 +1,97 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+
+/**
+ * VectorBatchEvaluator
+ * The evaluation of batches of 5-card hands, optionally with the SIMD instructions of the Vector API
+ * (jdk.incubator.vector) for the hands in the column layout (see evaluateColumns()): the card columns
+ * of a lane group of 8 or 16 hands (the preferred int vector of the CPU) are turned by the lanewise operations
+ * into the perfect hash weights of their ranks (see PokerHandEquivClassIDsIdea, an additive per-rank key
+ * as the card-ranking sum of PokerHand is, but it fits an int lane) and the one-hot counts of their suits;
+ * the sums of the 5 card columns give the rank hashes and Flush flags of the hands (as the suit AND
+ * of PokerHand.calcHandRankingCategory() does), and the class ranks are looked up by them.
+ * The result is the hand comparator value of every hand, the same as PokerHand.getComparator() returns.
+ *
+ * The class rank lookups dominate the time, and they are scalar either way, so the Vector API path
+ * measured no faster than the scalar column path (see VectorBatchEvaluatorBenchmark). So it is not
+ * the default: it is used if it is enabled by the pokerhandcomparator.vector system property
+ * (-Dpokerhandcomparator.vector=true), the jdk.incubator.vector module is in the boot layer
+ * (the JVM is run with --add-modules jdk.incubator.vector) and the preferred int vector has 8 or more lanes.
+ * Otherwise the hands are evaluated one by one by the scalar path, with the same results.
+ * The interleaved hands (see evaluate()) are always evaluated by the scalar path.
+ */
+public final class VectorBatchEvaluator
+{
+	private VectorBatchEvaluator() {
+	}
+
+	/**
+	 * A hand always consists of five cards.
+	 */
+	static final int CARDS_IN_HAND = 5;
+
+	/**
+	 * The system property enabling the Vector API path.
+	 */
+	public static final String VECTOR_PROPERTY = "pokerhandcomparator.vector";
+
+	/**
+	 * If the Vector API is available (the module and 8 or more int lanes), and if it is enabled too.
+	 */
+	private static final boolean AVAILABLE =
+		ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && VectorBatchKernel.isSupported();
+	private static final boolean VECTORIZED = Boolean.getBoolean(VECTOR_PROPERTY) && AVAILABLE;
+
+
+	/**
+	 * It evaluates a batch of interleaved 5-card hands one by one, always by the scalar path
+	 * (see PokerHandEvaluator.evaluateBatch()); evaluateColumns() is the only method using the Vector API.
+	 *
+	 * @param cards The int cards of the hands (see PokerHandEvaluator), 5 consecutive cards per hand.
+	 * @param offset The index of the first card of the first hand.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the hands are put here, from the index 0.
+	 */
+	public static void evaluate(int cards[], int offset, int count, long outKeys[]) {
+		PokerHandEvaluator.evaluateBatch(cards, offset, count, outKeys);
+	}
+
+	/**
+	 * It evaluates a batch of 5-card hands in the column layout (see PokerHandEvaluator.evaluateBatchColumns()),
+	 * by the Vector API if it is enabled and available.
+	 *
+	 * @param cards The 5 card columns of the hands, count int cards each.
+	 * @param offset The index of the first card of the first column.
+	 * @param count The number of the hands.
+	 * @param outKeys The hand comparator values of the hands are put here, from the index 0.
+	 * @throws IllegalArgumentException If a card is not a card of the deck, or the cards of a hand do not make a hand,
+	 * by either path.
+	 */
+	public static void evaluateColumns(int cards[], int offset, int count, long outKeys[]) {
+		if (VECTORIZED) {
+			PokerHandEvaluator.checkBatch(cards, offset, count, CARDS_IN_HAND, outKeys);
+			VectorBatchKernel.evaluateColumns(cards, offset, count, outKeys);
+		} else {
+			PokerHandEvaluator.evaluateBatchColumns(cards, offset, count, outKeys);
+		}
+	}
+
+	/**
+	 * If the Vector API path can be used: the jdk.incubator.vector module is in the boot layer
+	 * and the preferred int vector has 8 or more lanes (e.g. not the 4 lanes of NEON or SSE).
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * If the batches are evaluated by the Vector API.
+	 */
+	public static boolean isVectorized() {
+		return VECTORIZED;
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * VectorBatchKernel
+ * The Vector API path of VectorBatchEvaluator. It is the only class referring to jdk.incubator.vector,
+ * so it is loaded only if the module is there.
+ *
+ * The hands are in the column layout (see PokerHandEvaluator.evaluateBatchColumns()), so a vector of a card column
+ * holds the same card of a lane group of hands (no gathers). Every card is turned into its batch value
+ * (see PokerHandEvaluator.CARD_BATCH_VALUES) by the lanewise operations: the perfect hash weight of the rank
+ * (the rank weights selected by the ranks) ORed with the one-hot count of the suit. The batch value sums
+ * of the hands are the sums of the 5 column vectors, widened into the result array and looked up there in place,
+ * so nothing is allocated per call.
+ */
+final class VectorBatchKernel
+{
+	private VectorBatchKernel() {
+	}
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+
+	/**
+	 * The perfect hash weights of the ranks in 2 vectors: of the ranks below the number of the lanes,
+	 * and of the ranks above it (at rank - lanes), for the 2-vector rearrangement by the ranks
+	 * if the lanes are fewer than the ranks.
+	 */
+	private static final IntVector LOW_RANK_WEIGHTS;
+	private static final IntVector HIGH_RANK_WEIGHTS;
+
+	private static final IntVector ONE = IntVector.broadcast(SPECIES, 1);
+
+	static {
+		int weights[] = new int[2*Math.max(SPECIES.length(), Ranks.enumSize)];
+		System.arraycopy(PokerHandEquivClassIDsIdea.RANK_HASH_WEIGHTS, 0, weights, 0, Ranks.enumSize);
+		LOW_RANK_WEIGHTS = IntVector.fromArray(SPECIES, weights, 0);
+		HIGH_RANK_WEIGHTS = IntVector.fromArray(SPECIES, weights, SPECIES.length());
+	}
+
+
+	/**
+	 * If the lanes are enough for the 2-vector rearrangement of the 13 rank weights (8 or more lanes).
+	 */
+	static boolean isSupported() {
+		return 2*SPECIES.length() >= Ranks.enumSize;
+	}
+
+	/**
+	 * It evaluates a batch of hands in the column layout (see PokerHandEvaluator.evaluateBatchColumns()):
+	 * the batch value sums of the hands of a lane group are the sums of the 5 vectors of their card columns,
+	 * widened into outKeys, and then looked up in place; the remaining hands are evaluated one by one.
+	 */
+	static void evaluateColumns(int cards[], int offset, int count, long outKeys[]) {
+		int lanes = SPECIES.length();
+		int h = 0;
+		for (; h+lanes<=count; h+=lanes) {
+			IntVector sums = IntVector.zero(SPECIES);
+			VectorMask<Integer> invalid = SPECIES.maskAll(false);
+			for (int i=0; i<VectorBatchEvaluator.CARDS_IN_HAND; i++) {
+				IntVector card = IntVector.fromArray(SPECIES, cards, offset + i*count + h);
+				invalid = invalid.or(card.compare(VectorOperators.UNSIGNED_GE, PokerHandEvaluator.CARDS_IN_DECK));
+				sums = sums.add(cardValues(card));
+			}
+			if (invalid.anyTrue()) {
+				throw new IllegalArgumentException("Cards do not make a 5-card poker hand.");
+			}
+			for (int part=0, k=h; k<h+lanes; part++, k+=LONG_SPECIES.length()) {
+				((LongVector)sums.convertShape(VectorOperators.I2L, LONG_SPECIES, part)).intoArray(outKeys, k);
+			}
+			for (int k=h; k<h+lanes; k++) {
+				outKeys[k] = PokerHandEvaluator.getBatchComparator((int)outKeys[k]);
+			}
+		}
+		for (int c=offset+h; h<count; h++, c++) {
+			outKeys[h] = PokerHandEvaluator.getBatchComparator(
+				PokerHandEvaluator.getBatchValue(cards[c]) + PokerHandEvaluator.getBatchValue(cards[c+count]) +
+				PokerHandEvaluator.getBatchValue(cards[c+2*count]) + PokerHandEvaluator.getBatchValue(cards[c+3*count]) +
+				PokerHandEvaluator.getBatchValue(cards[c+4*count]));
+		}
+	}
+
+
+	/**
+	 * It returns the batch values of the cards: the rank weights selected by the ranks (from a single vector
+	 * of 16 lanes, or from 2 vectors of 8 lanes, where the exceptional, too high, shuffle indexes take the high
+	 * rank weights), ORed with the suit counts.
+	 */
+	private static IntVector cardValues(IntVector cards) {
+		// The ranks of the invalid cards are masked into the 16 shuffle indexes, the cards are rejected later.
+		IntVector ranks = cards.lanewise(VectorOperators.LSHR, 2).and(0xF);
+		IntVector weights = SPECIES.length() >= Ranks.enumSize
+			? ranks.selectFrom(LOW_RANK_WEIGHTS)
+			: LOW_RANK_WEIGHTS.rearrange(ranks.toShuffle(), HIGH_RANK_WEIGHTS);
+		// The suit count field of the suit is at BATCH_HASH_BITS + 3*suit.
+		IntVector suit = cards.and(0x3);
+		IntVector suitShift = suit.lanewise(VectorOperators.LSHL, 1).add(suit).add(PokerHandEvaluator.BATCH_HASH_BITS);
+		return weights.or(ONE.lanewise(VectorOperators.LSHL, suitShift));
+	}
+}
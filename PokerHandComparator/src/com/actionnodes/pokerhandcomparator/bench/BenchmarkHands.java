@@ -0,0 +1,50 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.Random;
+
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * BenchmarkHands
+ * Random hands of int cards dealt for the benchmarks.
+ */
+public class BenchmarkHands
+{
+	/**
+	 * The indexes of the 5 cards of the 21 5-card combinations of 7 cards.
+	 */
+	public static final int COMBINATIONS_5_OF_7[][] = new int[21][];
+	static {
+		int n = 0;
+		for (int i1=0; i1<7; i1++)
+		for (int i2=i1+1; i2<7; i2++)
+		for (int i3=i2+1; i3<7; i3++)
+		for (int i4=i3+1; i4<7; i4++)
+		for (int i5=i4+1; i5<7; i5++) {
+			COMBINATIONS_5_OF_7[n++] = new int[] { i1, i2, i3, i4, i5 };
+		}
+	}
+
+	/**
+	 * It deals the specified number of hands of distinct int cards, each from a full deck.
+	 */
+	public static int[][] deal(Random random, int hands, int cardsInHand) {
+		int deck[] = new int[PokerHandEvaluator.CARDS_IN_DECK];
+		for (int c=0; c<deck.length; c++) deck[c] = c;
+
+		int dealt[][] = new int[hands][cardsInHand];
+		for (int n=0; n<hands; n++) {
+			// A partial shuffle of the deck.
+			for (int i=0; i<cardsInHand; i++) {
+				int j = i + random.nextInt(deck.length - i);
+				int card = deck[i]; deck[i] = deck[j]; deck[j] = card;
+				dealt[n][i] = deck[i];
+			}
+		}
+		return dealt;
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.HandRanking;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEquivClassIDsIdea;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * ComparisonBenchmark
+ * This benchmark measures the hand comparison of the PokerHand and PokerHandEquivClassIDsIdea classes,
+ * and sorting of a list of HANDS random hands with PokerHand as the Comparator,
+ * against the ranking of the same hands by HandRanking (the key extraction is included in the score).
+ * Every comparison compares the next pair of the pre-built random hands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComparisonBenchmark
+{
+	private static final int HANDS = 1024;
+
+	private PokerHand _hands[] = new PokerHand[HANDS];
+	private PokerHandEquivClassIDsIdea _ideaHands[] = new PokerHandEquivClassIDsIdea[HANDS];
+	private List<PokerHand> _list = null;
+	private int _next = 0;
+
+	@Setup
+	public void setUp() {
+		Card cards[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+		for (int c=0; c<cards.length; c++) {
+			cards[c] = Card.of(c);
+		}
+		int dealt[][] = BenchmarkHands.deal(new Random(5), HANDS, 5);
+		for (int i=0; i<HANDS; i++) {
+			int h[] = dealt[i];
+			_hands[i] = new PokerHand(cards[h[0]], cards[h[1]], cards[h[2]], cards[h[3]], cards[h[4]]);
+			_ideaHands[i] = new PokerHandEquivClassIDsIdea(cards[h[0]], cards[h[1]], cards[h[2]], cards[h[3]], cards[h[4]]);
+		}
+		_list = new ArrayList<PokerHand>(HANDS);
+		Collections.addAll(_list, _hands);
+	}
+
+	private int next() {
+		_next = (_next + 1) & (HANDS - 1);
+		return _next;
+	}
+
+
+	@Benchmark
+	public int pokerHandCompareHands() {
+		int i = next();
+		return PokerHand.compareHands(_hands[i], _hands[(i + 1) & (HANDS - 1)]);
+	}
+
+	@Benchmark
+	public int equivClassIDsCompareHands() {
+		int i = next();
+		return PokerHandEquivClassIDsIdea.compareHands(_ideaHands[i], _ideaHands[(i + 1) & (HANDS - 1)]);
+	}
+
+	/**
+	 * It sorts a copy of the list of HANDS unsorted hands (the copy is included in the score).
+	 */
+	@Benchmark
+	public List<PokerHand> collectionsSortWithComparator() {
+		List<PokerHand> list = new ArrayList<PokerHand>(_list);
+		Collections.sort(list, _hands[0]);
+		return list;
+	}
+
+	/**
+	 * It sorts a copy of the list of HANDS unsorted hands in the natural (Comparable) order.
+	 */
+	@Benchmark
+	public List<PokerHand> collectionsSortComparable() {
+		List<PokerHand> list = new ArrayList<PokerHand>(_list);
+		Collections.sort(list);
+		return list;
+	}
+
+	/**
+	 * It ranks the list of HANDS unsorted hands by the parallel sort of their keys.
+	 */
+	@Benchmark
+	public HandRanking handRankingParallelSort() {
+		return HandRanking.rank(HandRanking.keys(_list));
+	}
+
+	/**
+	 * It ranks the list of HANDS unsorted hands by the radix sort of their keys.
+	 */
+	@Benchmark
+	public HandRanking handRankingRadixSort() {
+		return HandRanking.rankRadix(HandRanking.keys(_list));
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.actionnodes.pokerhandcomparator.Deck;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * DeckBenchmark
+ * This benchmark measures the Deck card availability check and allocation,
+ * going through all 52 cards of the deck (of a deck of the benchmark's own).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark
+{
+	private Suits _suits[] = new Suits[PokerHandEvaluator.CARDS_IN_DECK];
+	private Ranks _ranks[] = new Ranks[PokerHandEvaluator.CARDS_IN_DECK];
+	private Deck _deck = new Deck();
+	private int _next = 0;
+
+	@Setup
+	public void setUp() {
+		_deck.setFreedAll();
+		for (int c=0; c<PokerHandEvaluator.CARDS_IN_DECK; c++) {
+			_suits[c] = PokerHandEvaluator.suitOf(c);
+			_ranks[c] = PokerHandEvaluator.rankOf(c);
+		}
+	}
+
+	private int next() {
+		_next = _next + 1 == PokerHandEvaluator.CARDS_IN_DECK ? 0 : _next + 1;
+		return _next;
+	}
+
+
+	@Benchmark
+	public boolean isAvailable() {
+		int c = next();
+		return _deck.isAvailable(_suits[c], _ranks[c]);
+	}
+
+	/**
+	 * It allocates the next card and frees all cards when the deck has been dealt out.
+	 */
+	@Benchmark
+	public boolean allocate() {
+		int c = next();
+		if (c == 0) {
+			_deck.setFreedAll();
+		}
+		return _deck.allocate(_suits[c], _ranks[c]);
+	}
+
+	/**
+	 * It deals the next card (the check and the allocation as one atomic step)
+	 * and frees all cards when the deck has been dealt out.
+	 */
+	@Benchmark
+	public boolean tryAllocate() {
+		int c = next();
+		if (c == 0) {
+			_deck.setFreedAll();
+		}
+		return _deck.tryAllocate(_suits[c], _ranks[c]);
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.HoldemEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * HoldemEvaluatorBenchmark
+ * This benchmark compares the direct 7-card evaluation with the baseline,
+ * the best of the 21 5-card combinations of the 7 cards.
+ * Every invocation evaluates the next of HANDS pre-dealt random 7-card hands,
+ * except for the batch evaluations of all of them, interleaved and in the column layout (their score is per hand too).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HoldemEvaluatorBenchmark
+{
+	private static final int HANDS = 1024;
+
+	private int _hands[][] = null;
+	private int _batch[] = new int[7*HANDS];
+	private int _columns[] = new int[7*HANDS];
+	private long _keys[] = new long[HANDS];
+	private Card _cards[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+	private int _next = 0;
+
+	@Setup
+	public void setUp() {
+		for (int c=0; c<_cards.length; c++) {
+			_cards[c] = Card.of(c);
+		}
+		_hands = BenchmarkHands.deal(new Random(7), HANDS, 7);
+		for (int h=0; h<HANDS; h++) {
+			System.arraycopy(_hands[h], 0, _batch, 7*h, 7);
+			for (int i=0; i<7; i++) {
+				_columns[i*HANDS + h] = _hands[h][i];
+			}
+		}
+	}
+
+	private int[] nextHand() {
+		_next = (_next + 1) & (HANDS - 1);
+		return _hands[_next];
+	}
+
+
+	@Benchmark
+	public long sevenCardEvaluator() {
+		int h[] = nextHand();
+		return HoldemEvaluator.evaluate(h[0], h[1], h[2], h[3], h[4], h[5], h[6]);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public long[] sevenCardBatch() {
+		HoldemEvaluator.evaluateBatch(_batch, 0, HANDS, _keys);
+		return _keys;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public long[] sevenCardBatchColumns() {
+		HoldemEvaluator.evaluateBatchColumns(_columns, 0, HANDS, _keys);
+		return _keys;
+	}
+
+	@Benchmark
+	public long best5Of21IntEvaluations() {
+		int h[] = nextHand();
+		long best = Long.MIN_VALUE;
+		for (int c[] : BenchmarkHands.COMBINATIONS_5_OF_7) {
+			best = Math.max(best, PokerHandEvaluator.evaluate(h[c[0]], h[c[1]], h[c[2]], h[c[3]], h[c[4]]));
+		}
+		return best;
+	}
+
+	@Benchmark
+	public PokerHand best5Of21PokerHands() {
+		int h[] = nextHand();
+		PokerHand best = null;
+		for (int c[] : BenchmarkHands.COMBINATIONS_5_OF_7) {
+			PokerHand hand = new PokerHand(_cards[h[c[0]]], _cards[h[c[1]]], _cards[h[c[2]]], _cards[h[c[3]]], _cards[h[c[4]]]);
+			if (best == null || PokerHand.compareHands(hand, best) > 0) {
+				best = hand;
+			}
+		}
+		return best;
+	}
+}
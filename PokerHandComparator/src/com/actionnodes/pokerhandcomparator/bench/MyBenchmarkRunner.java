@@ -0,0 +1,31 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * MyBenchmarkRunner
+ * It runs all the benchmarks (or the ones matching the regular expression argument)
+ * with the GC profiler (as "-prof gc" does), which reports the allocation rate
+ * (gc.alloc.rate.norm, bytes per operation) next to the time of every benchmark.
+ */
+public class MyBenchmarkRunner
+{
+  public static void main(String[] args) throws RunnerException
+  {
+    String include = args.length > 0 ? args[0] : MyBenchmarkRunner.class.getPackage().getName() + ".*Benchmark";
+
+    Options options = new OptionsBuilder()
+      .include(include)
+      .addProfiler(GCProfiler.class)
+      .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * PokerHandBenchmark
+ * This benchmark measures the PokerHand construction (the hand evaluation) 
+ * and the PokerHand.toString() per hand category.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokerHandBenchmark
+{
+	@Param({ "SF", "K4", "FH", "F", "S", "K3", "P2", "P1", "HC" })
+	public String category;
+
+	private Card _cards[] = null;
+	private PokerHand _hand = null;
+
+	@Setup
+	public void setUp() {
+		_cards = categoryHand(category);
+		_hand = new PokerHand(_cards[0], _cards[1], _cards[2], _cards[3], _cards[4]);
+	}
+
+
+	@Benchmark
+	public PokerHand construction() {
+		return new PokerHand(_cards[0], _cards[1], _cards[2], _cards[3], _cards[4]);
+	}
+
+	@Benchmark
+	public String toStringConversion() {
+		return _hand.toString();
+	}
+
+
+	/**
+	 * It returns the cards of a hand of the specified category.
+	 */
+	static Card[] categoryHand(String category) {
+		switch (category) {
+		case "SF": return cards(Suits.S, Ranks.K, Suits.S, Ranks.Q, Suits.S, Ranks.J, Suits.S, Ranks.Tn, Suits.S, Ranks.N);
+		case "K4": return cards(Suits.S, Ranks.Sv, Suits.H, Ranks.Sv, Suits.D, Ranks.Sv, Suits.C, Ranks.Sv, Suits.S, Ranks.Q);
+		case "FH": return cards(Suits.S, Ranks.Fv, Suits.H, Ranks.Fv, Suits.D, Ranks.Fv, Suits.C, Ranks.J, Suits.S, Ranks.J);
+		case "F":  return cards(Suits.H, Ranks.A, Suits.H, Ranks.Tn, Suits.H, Ranks.E, Suits.H, Ranks.Sx, Suits.H, Ranks.D);
+		case "S":  return cards(Suits.S, Ranks.Fv, Suits.H, Ranks.Fr, Suits.D, Ranks.Tr, Suits.C, Ranks.D, Suits.S, Ranks.A);
+		case "K3": return cards(Suits.S, Ranks.N, Suits.H, Ranks.N, Suits.D, Ranks.N, Suits.C, Ranks.K, Suits.S, Ranks.Fr);
+		case "P2": return cards(Suits.S, Ranks.J, Suits.H, Ranks.J, Suits.D, Ranks.Tr, Suits.C, Ranks.Tr, Suits.S, Ranks.A);
+		case "P1": return cards(Suits.S, Ranks.Q, Suits.H, Ranks.Q, Suits.D, Ranks.Sv, Suits.C, Ranks.Fv, Suits.S, Ranks.D);
+		case "HC": return cards(Suits.S, Ranks.K, Suits.H, Ranks.J, Suits.D, Ranks.E, Suits.C, Ranks.Sx, Suits.S, Ranks.Tr);
+		default:
+			throw new IllegalArgumentException("Unknown category "+category);
+		}
+	}
+
+	private static Card[] cards(
+			Suits s1, Ranks r1, Suits s2, Ranks r2, Suits s3, Ranks r3, Suits s4, Ranks r4, Suits s5, Ranks r5) {
+		return new Card[] { Card.of(s1, r1), Card.of(s2, r2), Card.of(s3, r3), Card.of(s4, r4), Card.of(s5, r5) };
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.VectorBatchEvaluator;
+
+/**
+ * VectorBatchEvaluatorBenchmark
+ * This benchmark compares the evaluation of a batch of HANDS random 5-card hands in the column layout
+ * by the Vector API with the scalar column path, with the scalar batch of the interleaved hands,
+ * with the PokerHandEvaluator calls per hand and with the PokerHand construction; the score is the time per batch.
+ * The benchmark JVM is run with the jdk.incubator.vector module and the Vector API path enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector", "-Dpokerhandcomparator.vector=true" })
+@State(Scope.Thread)
+public class VectorBatchEvaluatorBenchmark
+{
+	private static final int HANDS = 4096;
+
+	private int _cards[] = new int[5*HANDS];
+	private int _columns[] = new int[5*HANDS];
+	private Card _handCards[] = new Card[5*HANDS];
+	private long _keys[] = new long[HANDS];
+
+	@Setup
+	public void setUp() {
+		int dealt[][] = BenchmarkHands.deal(new Random(21), HANDS, 5);
+		for (int h=0; h<HANDS; h++) {
+			for (int i=0; i<5; i++) {
+				_cards[5*h + i] = dealt[h][i];
+				_columns[i*HANDS + h] = dealt[h][i];
+				_handCards[5*h + i] = Card.of(dealt[h][i]);
+			}
+		}
+	}
+
+
+	@Benchmark
+	public long[] vectorColumns() {
+		VectorBatchEvaluator.evaluateColumns(_columns, 0, HANDS, _keys);
+		return _keys;
+	}
+
+	@Benchmark
+	public long[] scalarColumns() {
+		PokerHandEvaluator.evaluateBatchColumns(_columns, 0, HANDS, _keys);
+		return _keys;
+	}
+
+	@Benchmark
+	public long[] scalarBatch() {
+		VectorBatchEvaluator.evaluate(_cards, 0, HANDS, _keys);
+		return _keys;
+	}
+
+	@Benchmark
+	public long[] evaluatorCalls() {
+		for (int h=0, c=0; h<HANDS; h++, c+=5) {
+			_keys[h] = PokerHandEvaluator.evaluate(_cards[c], _cards[c+1], _cards[c+2], _cards[c+3], _cards[c+4]);
+		}
+		return _keys;
+	}
+
+	@Benchmark
+	public long[] pokerHands() {
+		for (int h=0, c=0; h<HANDS; h++, c+=5) {
+			_keys[h] = new PokerHand(_handCards[c], _handCards[c+1], _handCards[c+2], _handCards[c+3], _handCards[c+4]).getComparator();
+		}
+		return _keys;
+	}
+}
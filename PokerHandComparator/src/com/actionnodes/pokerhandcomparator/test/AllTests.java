@@ -1,19 +1,19 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator.test;
-
-import org.junit.runner.RunWith;
-import org.junit.runners.Suite;
-import org.junit.runners.Suite.SuiteClasses;
-
-/**
- * AllTests
- */
-@RunWith(Suite.class)
-@SuiteClasses({ PokerHandFewTests.class, PokerHandComprehensiveTests.class })
-public class AllTests
-{
-
-}
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ * AllTests
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ PokerHandFewTests.class, PokerHandComprehensiveTests.class, PokerHandEquivClassIDsIdeaTests.class, PokerHandEvaluatorTests.class, HoldemEvaluatorTests.class, HoldemLookupTableTests.class, HandEnumerationJobTests.class, DeckTests.class, CardTests.class, CompactHandTests.class, HeadsUpEquityTests.class, MonteCarloEquityTests.class, HandRangeTests.class, RangeEquityTests.class, PreflopEquityMatrixTests.class, IncrementalHandStateTests.class, BoardContextTests.class, ShowdownResolverTests.class, OmahaEvaluatorTests.class, LowHandEvaluatorTests.class, ShortDeckEvaluatorTests.class, VectorBatchEvaluatorTests.class, HandRankingTests.class, SuitIsomorphismTests.class, VectorBatchKernelTests.class })
+public class AllTests
+{
+
+}
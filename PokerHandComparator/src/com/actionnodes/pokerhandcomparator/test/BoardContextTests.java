@@ -0,0 +1,101 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.BoardContext;
+import com.actionnodes.pokerhandcomparator.CompactHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * BoardContextTests
+ * This test class checks the hands evaluated against a precomputed board with the evaluation of all the cards at once,
+ * and the hand strength with the count over all the opponent hands.
+ */
+public class BoardContextTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomBoardsTest() {
+		Random random = new Random(16);
+		int deck[] = TestHands.newDeck();
+
+		for (int n=0; n<3000; n++) {
+			TestHands.shuffle(random, deck, 5);
+			int boardCards = 3 + n % 3;
+			long boardMask = 0L;
+			int board[] = new int[boardCards];
+			for (int i=0; i<boardCards; i++) {
+				board[i] = deck[i];
+				boardMask |= 1L << deck[i];
+			}
+			BoardContext context = new BoardContext(board);
+			for (int k=0; k<20; k++) {
+				int j1 = boardCards + random.nextInt(deck.length - boardCards);
+				int j2 = boardCards + random.nextInt(deck.length - boardCards);
+				if (j1 == j2) continue;
+				assertEquals(CompactHand.of(boardMask | (1L << deck[j1]) | (1L << deck[j2])).getComparator(),
+					context.evaluate(deck[j1], deck[j2]));
+			}
+		}
+	}
+
+	@Test
+	public void handStrengthTest() {
+		Random random = new Random(1081);
+		for (int n=0; n<20; n++) {
+			long used = 0L;
+			int cards[] = new int[5];
+			for (int i=0; i<5; i++) {
+				int card;
+				do {
+					card = random.nextInt(PokerHandEvaluator.CARDS_IN_DECK);
+				} while ((used & (1L << card)) != 0);
+				used |= 1L << card;
+				cards[i] = card;
+			}
+			BoardContext context = new BoardContext(new int[] { cards[2], cards[3], cards[4] });
+			long key = context.evaluate(cards[0], cards[1]);
+
+			double beaten = 0.0;
+			int opponents = 0;
+			for (int o1=0; o1<PokerHandEvaluator.CARDS_IN_DECK; o1++) {
+				for (int o2=o1+1; o2<PokerHandEvaluator.CARDS_IN_DECK; o2++) {
+					if ((used & ((1L << o1) | (1L << o2))) != 0) continue;
+					long other = context.evaluate(o1, o2);
+					beaten += other < key ? 1.0 : other == key ? 0.5 : 0.0;
+					opponents++;
+				}
+			}
+			assertEquals(1081, opponents);
+			assertEquals(beaten / opponents, context.handStrength(cards[0], cards[1]), 1e-12);
+		}
+	}
+}
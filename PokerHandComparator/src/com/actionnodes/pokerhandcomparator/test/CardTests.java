@@ -0,0 +1,75 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Deck;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * CardTests
+ * This test class checks the shared (flyweight) card instances of Card.of()
+ * and that they are not dealt from any deck.
+ */
+public class CardTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void sharedInstances() {
+		for (int c=0; c<PokerHandEvaluator.CARDS_IN_DECK; c++) {
+			Card card = Card.of(c);
+			assertSame(card, Card.of(card.getSuit(), card.getRank()));
+			assertEquals(c, card.getIndex());
+			assertEquals(PokerHandEvaluator.suitOf(c), card.getSuit());
+			assertEquals(PokerHandEvaluator.rankOf(c), card.getRank());
+		}
+		assertEquals("H-Q", Card.of(Suits.H, Ranks.Q).toString());
+	}
+
+	@Test
+	public void sharedInstancesAreNotDealt() {
+		Deck deck = Deck.getInstance();
+		boolean available = deck.isAvailable(Suits.C, Ranks.N);
+		Card.of(Suits.C, Ranks.N);
+		assertEquals(available, deck.isAvailable(Suits.C, Ranks.N));
+
+		Deck gameDeck = new Deck();
+		Card card = Card.of(Suits.C, Ranks.N);
+		assertTrue(gameDeck.tryAllocate(card));
+		assertFalse(gameDeck.tryAllocate(card));
+		assertEquals(card, new Card(new Deck(), Suits.C, Ranks.N));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notACardOfTheDeck() {
+		Card.of(PokerHandEvaluator.CARDS_IN_DECK);
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Categories;
+import com.actionnodes.pokerhandcomparator.CompactHand;
+import com.actionnodes.pokerhandcomparator.CompactHandList;
+import com.actionnodes.pokerhandcomparator.HoldemEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * CompactHandTests
+ * This test class checks that the compact hands agree with PokerHand and HoldemEvaluator,
+ * the lazy decoding of the category, the ranks and the cards, and the CompactHandList storage.
+ */
+public class CompactHandTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomHandsTest() {
+		Random random = new Random(10);
+		int deck[] = TestHands.newDeck();
+
+		for (int n=0; n<100000; n++) {
+			TestHands.shuffle(random, deck, 7);
+			PokerHand hand = new PokerHand(Card.of(deck[0]), Card.of(deck[1]), Card.of(deck[2]), Card.of(deck[3]), Card.of(deck[4]));
+			CompactHand compact = CompactHand.of(hand);
+			assertEquals(hand.getComparator(), compact.getComparator());
+			assertEquals(hand.getCategory(), compact.getCategory());
+			assertEquals(compact, CompactHand.of(Arrays.copyOf(deck, 5)));
+			assertEquals(5, compact.getCards().size());
+
+			CompactHand compact7 = CompactHand.of(Arrays.copyOf(deck, 7));
+			assertEquals(HoldemEvaluator.evaluate(deck[0], deck[1], deck[2], deck[3], deck[4], deck[5], deck[6]),
+				compact7.getComparator());
+		}
+	}
+
+	@Test
+	public void decodingTest() {
+		CompactHand hand = CompactHand.of(new PokerHand(
+			Card.of(Suits.S, Ranks.Fv), Card.of(Suits.H, Ranks.Fv), Card.of(Suits.D, Ranks.Fv),
+			Card.of(Suits.C, Ranks.J), Card.of(Suits.S, Ranks.J)));
+		assertEquals(Categories.FH, hand.getCategory());
+		assertArrayEquals(new Ranks[] { Ranks.Fv, Ranks.J }, hand.getRanks());
+		assertEquals(Arrays.asList(
+			Card.of(Suits.S, Ranks.Fv), Card.of(Suits.H, Ranks.Fv), Card.of(Suits.D, Ranks.Fv),
+			Card.of(Suits.S, Ranks.J), Card.of(Suits.C, Ranks.J)), hand.getCards());
+	}
+
+	@Test
+	public void compactHandListTest() {
+		Random random = new Random(11);
+		CompactHandList list = new CompactHandList(1);
+		CompactHand hands[] = new CompactHand[1000];
+		for (int i=0; i<hands.length; i++) {
+			long cards = 0L;
+			while (Long.bitCount(cards) < 5) {
+				cards |= CompactHand.cardBit(random.nextInt(PokerHandEvaluator.CARDS_IN_DECK));
+			}
+			hands[i] = CompactHand.of(cards);
+			list.add(hands[i]);
+		}
+		list.trimToSize();
+		assertEquals(hands.length, list.size());
+		int i = 0;
+		for (CompactHand hand : list) {
+			assertEquals(hands[i], hand);
+			assertEquals(hands[i].getCardMask(), list.getCardMask(i));
+			assertEquals(Integer.signum(CompactHand.compareHands(hands[0], hands[i])), Integer.signum(list.compare(0, i)));
+			i++;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notDistinctCards() {
+		CompactHand.of(new int[] { 1, 2, 3, 4, 4 });
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Deck;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * DeckTests
+ * This test class checks the per-game decks: the card allocation, the duplicate card policy per deck,
+ * and that every card is dealt exactly once when several threads deal from the same deck.
+ */
+public class DeckTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void allocationAndFreeing() {
+		Deck deck = new Deck();
+		assertTrue(deck.isAvailable(Suits.H, Ranks.A));
+		Card card = new Card(deck, Suits.H, Ranks.A);
+		assertFalse(deck.isAvailable(Suits.H, Ranks.A));
+		assertFalse(deck.tryAllocate(Suits.H, Ranks.A));
+		assertEquals(1L << PokerHandEvaluator.toCard(Suits.H, Ranks.A), deck.getDealtCards());
+
+		assertTrue(deck.free(card));
+		assertFalse(deck.free(card));
+		assertTrue(deck.isAvailable(card));
+		assertTrue(deck.allocate(card));
+		assertFalse(deck.allocate(card));
+		deck.setFreedAll();
+		assertEquals(0L, deck.getDealtCards());
+	}
+
+	/**
+	 * This test method checks the Card-returning methods of the original Deck API.
+	 */
+	@Test
+	public void setAllocatedAndSetFreed() {
+		Deck deck = new Deck();
+		Card card = Card.of(Suits.S, Ranks.Q);
+		assertNull(deck.setAllocated(card));
+		assertSame(card, deck.setAllocated(card));
+		assertSame(card, deck.setAllocated(Suits.S, Ranks.Q));
+		assertSame(card, deck.setFreed(card));
+		assertNull(deck.setFreed(card));
+		assertNull(deck.setAllocated(Suits.S, Ranks.Q));
+		assertFalse(deck.isAvailable(card));
+	}
+
+	@Test
+	public void cardOutOfDeck() {
+		Deck deck = new Deck();
+		int cards[] = { -1, PokerHandEvaluator.CARDS_IN_DECK, 63, 64, 100 };
+		for (int card : cards) {
+			try {
+				deck.isAvailable(card);
+				fail("Card "+card+" is available.");
+			} catch (IllegalArgumentException e) {
+			}
+			try {
+				deck.allocate(card);
+				fail("Card "+card+" is allocated.");
+			} catch (IllegalArgumentException e) {
+			}
+			try {
+				deck.tryAllocate(card);
+				fail("Card "+card+" is allocated.");
+			} catch (IllegalArgumentException e) {
+			}
+			try {
+				deck.free(card);
+				fail("Card "+card+" is freed.");
+			} catch (IllegalArgumentException e) {
+			}
+		}
+		assertEquals(0L, deck.getDealtCards());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void cardNotAvailable() {
+		Deck deck = new Deck();
+		new Card(deck, Suits.C, Ranks.D);
+		new Card(deck, Suits.C, Ranks.D);
+	}
+
+	@Test
+	public void decksAreIndependent() {
+		Deck deck1 = new Deck();
+		Deck deck2 = new Deck();
+		new Card(deck1, Suits.S, Ranks.K);
+		assertTrue(deck2.isAvailable(Suits.S, Ranks.K));
+		assertTrue(Deck.getInstance() != deck1 && Deck.getInstance() != deck2);
+	}
+
+	@Test
+	public void duplicatePolicyPerDeck() {
+		Deck deck = new Deck(false);
+		Deck strictDeck = new Deck(true);
+		new Card(deck, Suits.D, Ranks.Q);
+		new Card(deck, Suits.D, Ranks.Q);
+		new Card(strictDeck, Suits.D, Ranks.Q);
+		assertTrue(deck.isAvailable(Suits.D, Ranks.Q));
+		assertFalse(strictDeck.isAvailable(Suits.D, Ranks.Q));
+
+		deck.setDuplicateCardsNotAllowed(true);
+		assertFalse(deck.isAvailable(Suits.D, Ranks.Q));
+	}
+
+	@Test
+	public void concurrentDealing() throws Exception {
+		final int THREADS = 8;
+		final Deck deck = new Deck();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round=0; round<100; round++) {
+				deck.setFreedAll();
+				List<Future<Long>> dealt = new ArrayList<Future<Long>>(THREADS);
+				for (int t=0; t<THREADS; t++) {
+					dealt.add(executor.submit(() -> {
+						long cards = 0;
+						for (int c=0; c<PokerHandEvaluator.CARDS_IN_DECK; c++) {
+							if (deck.tryAllocate(c)) {
+								cards |= 1L << c;
+							}
+						}
+						return cards;
+					}));
+				}
+				long all = 0;
+				for (int t=0; t<THREADS; t++) {
+					long cards = dealt.get(t).get();
+					assertEquals(0L, all & cards);
+					all |= cards;
+				}
+				assertEquals((1L << PokerHandEvaluator.CARDS_IN_DECK) - 1, all);
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Categories;
+import com.actionnodes.pokerhandcomparator.HandEnumerationJob;
+import com.actionnodes.pokerhandcomparator.PokerHandEquivClassIDsIdea;
+
+/**
+ * HandEnumerationJobTests
+ * This test class runs the exhaustive enumeration of all 2,598,960 5-card hands
+ * and checks the hand category histogram and the number of hand equivalence classes
+ * against the well-known values.
+ */
+public class HandEnumerationJobTests
+{
+	private static HandEnumerationJob.Result result;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		result = new HandEnumerationJob().run();
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void allHandsEvaluated() {
+		assertEquals(2598960, result.getHands());
+		assertEquals(0, result.getCount(Categories.UNKNOWN));
+	}
+
+	@Test
+	public void categoryHistogram() {
+		assertEquals(40, result.getCount(Categories.SF));
+		assertEquals(624, result.getCount(Categories.K4));
+		assertEquals(3744, result.getCount(Categories.FH));
+		assertEquals(5108, result.getCount(Categories.F));
+		assertEquals(10200, result.getCount(Categories.S));
+		assertEquals(54912, result.getCount(Categories.K3));
+		assertEquals(123552, result.getCount(Categories.P2));
+		assertEquals(1098240, result.getCount(Categories.P1));
+		assertEquals(1302540, result.getCount(Categories.HC));
+	}
+
+	@Test
+	public void distinctComparators() {
+		assertEquals(PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES, result.getDistinctComparators());
+	}
+}
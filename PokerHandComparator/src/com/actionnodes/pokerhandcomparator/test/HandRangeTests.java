@@ -0,0 +1,103 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.CompactHand;
+import com.actionnodes.pokerhandcomparator.HandRange;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * HandRangeTests
+ * This test class checks the parsing of the hand range notation into the weighted combos,
+ * and the removal of the combos blocked by dead cards.
+ */
+public class HandRangeTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void notationTest() {
+		assertEquals(6, HandRange.parse("AA").size());
+		assertEquals(30, HandRange.parse("TT+").size());
+		assertEquals(24, HandRange.parse("TT-77").size());
+		assertEquals(4, HandRange.parse("AKs").size());
+		assertEquals(12, HandRange.parse("AKo").size());
+		assertEquals(16, HandRange.parse("AK").size());
+		assertEquals(24, HandRange.parse("AQo+").size());
+		assertEquals(12, HandRange.parse("76s-54s").size());
+		assertEquals(32, HandRange.parse("A9s-A2s").size());
+		assertEquals(1, HandRange.parse("AsKs").size());
+		assertEquals(30 + 4 + 12 + 24, HandRange.parse("TT+, AKs, 76s-54s, AQo+").size());
+		// The overlapping items count every combo once.
+		assertEquals(16, HandRange.parse("AKs, AK").size());
+		assertEquals(1326, HandRange.parse("22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32").size());
+	}
+
+	@Test
+	public void weightsTest() {
+		HandRange range = HandRange.parse("AA:0.5, AKs");
+		assertEquals(6 * 0.5 + 4, range.getTotalWeight(), 1e-9);
+		assertEquals("AhAs:0.5", HandRange.parse("AhAs:0.5").toString());
+	}
+
+	@Test
+	public void blockersTest() {
+		long aceOfSpades = CompactHand.cardBit(PokerHandEvaluator.toCard(Suits.S, Ranks.A));
+		assertEquals(3, HandRange.parse("AA").without(aceOfSpades).size());
+		assertEquals(3, HandRange.parse("AKs").without(aceOfSpades).size());
+		assertEquals(9, HandRange.parse("AKo").without(aceOfSpades).size());
+	}
+
+	@Test
+	public void invalidWeights() {
+		for (String weight : new String[] {"-0.5", "NaN", "Infinity", "-Infinity"}) {
+			try {
+				HandRange.parse("AA:"+weight);
+				fail("Weight "+weight+" is not valid.");
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void suitedPair() {
+		HandRange.parse("AAs");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownRank() {
+		HandRange.parse("AXs");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void mixedRange() {
+		HandRange.parse("AKs-QJo");
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.HandRanking;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * HandRankingTests
+ * This test class checks the ranking of random hands by both sorts against the pairwise comparison:
+ * the order is by the strength and then by the index, and the dense ranks share the ties.
+ */
+public class HandRankingTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomHandsTest() {
+		long keys[] = randomKeys(new Random(23), 200000);
+		HandRanking ranking = HandRanking.rank(keys);
+		HandRanking radixRanking = HandRanking.rankRadix(keys);
+		assertArrayEquals(ranking.getOrder(), radixRanking.getOrder());
+		assertArrayEquals(ranking.getRanks(), radixRanking.getRanks());
+		assertEquals(keys.length, ranking.size());
+
+		int order[] = ranking.getOrder();
+		for (int i=1; i<order.length; i++) {
+			long stronger = keys[order[i-1]], weaker = keys[order[i]];
+			assertTrue(stronger >= weaker);
+			if (stronger == weaker) {
+				assertTrue(order[i-1] < order[i]);
+				assertEquals(ranking.getRank(order[i-1]), ranking.getRank(order[i]));
+			} else {
+				assertEquals(ranking.getRank(order[i-1]) + 1, ranking.getRank(order[i]));
+			}
+		}
+		assertEquals(1, ranking.getRank(ranking.getIndex(0)));
+		assertEquals(ranking.getDistinctRanks(), ranking.getRank(ranking.getIndex(keys.length - 1)));
+	}
+
+	@Test
+	public void tiesTest() {
+		List<PokerHand> hands = new ArrayList<PokerHand>();
+		hands.add(hand(0, 4, 8, 12, 17));		// 6-high Straight
+		hands.add(hand(48, 44, 40, 36, 32));	// Royal Flush
+		hands.add(hand(1, 5, 9, 13, 16));		// 6-high Straight, tied
+		hands.add(hand(48, 49, 50, 51, 0));		// Four Aces
+		HandRanking ranking = HandRanking.rankRadix(HandRanking.keys(hands));
+		assertArrayEquals(new int[] { 1, 3, 0, 2 }, ranking.getOrder());
+		assertArrayEquals(new int[] { 3, 1, 3, 2 }, ranking.getRanks());
+		assertEquals(3, ranking.getDistinctRanks());
+	}
+
+	@Test
+	public void emptyTest() {
+		assertEquals(0, HandRanking.rank(new long[0]).size());
+		assertEquals(0, HandRanking.rankRadix(new long[0]).getDistinctRanks());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notComparatorValueTest() {
+		HandRanking.rank(new long[] { 12345 });
+	}
+
+
+	private static PokerHand hand(int c1, int c2, int c3, int c4, int c5) {
+		return new PokerHand(Card.of(c1), Card.of(c2), Card.of(c3), Card.of(c4), Card.of(c5));
+	}
+
+	private static long[] randomKeys(Random random, int hands) {
+		int deck[] = TestHands.newDeck();
+		long keys[] = new long[hands];
+		for (int h=0; h<hands; h++) {
+			TestHands.shuffle(random, deck, 5);
+			keys[h] = PokerHandEvaluator.evaluate(deck[0], deck[1], deck[2], deck[3], deck[4]);
+		}
+		return keys;
+	}
+}
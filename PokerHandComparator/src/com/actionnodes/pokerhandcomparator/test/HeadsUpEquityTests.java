@@ -0,0 +1,106 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.HeadsUpEquity;
+import com.actionnodes.pokerhandcomparator.HoldemEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * HeadsUpEquityTests
+ * This test class checks the exhaustive heads-up equity: the numbers of the runouts,
+ * the symmetry of the two hands, and the flop equity against a plain nested-loop enumeration.
+ */
+public class HeadsUpEquityTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void preflopTest() {
+		int aces[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.A) };
+		int kings[] = { TestHands.card(Suits.D, Ranks.K), TestHands.card(Suits.C, Ranks.K) };
+		HeadsUpEquity.Result result = HeadsUpEquity.equity(aces, kings, new int[0], null);
+		assertEquals(1712304, result.getBoards());
+		// Aces against Kings of the other suits win about 82%.
+		assertEquals(0.82, result.getEquity(), 0.01);
+
+		HeadsUpEquity.Result reverse = HeadsUpEquity.equity(kings, aces, new int[0], null);
+		assertEquals(result.getWins(), reverse.getLosses());
+		assertEquals(result.getTies(), reverse.getTies());
+	}
+
+	@Test
+	public void flopTest() {
+		int holeA[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.S, Ranks.K) };
+		int holeB[] = { TestHands.card(Suits.H, Ranks.N), TestHands.card(Suits.D, Ranks.N) };
+		int board[] = { TestHands.card(Suits.S, Ranks.D), TestHands.card(Suits.S, Ranks.Sv), TestHands.card(Suits.C, Ranks.N) };
+		int dead[] = { TestHands.card(Suits.S, Ranks.Q) };
+		HeadsUpEquity.Result result = HeadsUpEquity.equity(holeA, holeB, board, dead);
+		assertEquals(44*43/2, result.getBoards());
+
+		long wins = 0, ties = 0, losses = 0;
+		for (int turn=0; turn<PokerHandEvaluator.CARDS_IN_DECK; turn++)
+		for (int river=turn+1; river<PokerHandEvaluator.CARDS_IN_DECK; river++) {
+			if (used(turn, holeA, holeB, board, dead) || used(river, holeA, holeB, board, dead)) continue;
+			long a = HoldemEvaluator.evaluate(holeA[0], holeA[1], board[0], board[1], board[2], turn, river);
+			long b = HoldemEvaluator.evaluate(holeB[0], holeB[1], board[0], board[1], board[2], turn, river);
+			if (a > b) wins++; else if (a == b) ties++; else losses++;
+		}
+		assertEquals(wins, result.getWins());
+		assertEquals(ties, result.getTies());
+		assertEquals(losses, result.getLosses());
+	}
+
+	@Test
+	public void riverTest() {
+		int holeA[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.D) };
+		int holeB[] = { TestHands.card(Suits.D, Ranks.A), TestHands.card(Suits.C, Ranks.Tr) };
+		int board[] = { TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.H, Ranks.K), TestHands.card(Suits.D, Ranks.Q), TestHands.card(Suits.C, Ranks.Q), TestHands.card(Suits.S, Ranks.J) };
+		HeadsUpEquity.Result result = HeadsUpEquity.equity(holeA, holeB, board, null);
+		assertEquals(1, result.getBoards());
+		assertEquals(1, result.getTies());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateCards() {
+		int holeA[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.A) };
+		HeadsUpEquity.equity(holeA, holeA, new int[0], null);
+	}
+
+
+	private static boolean used(int card, int[]... cardSets) {
+		for (int cards[] : cardSets) {
+			for (int c : cards) {
+				if (c == card) return true;
+			}
+		}
+		return false;
+	}
+}
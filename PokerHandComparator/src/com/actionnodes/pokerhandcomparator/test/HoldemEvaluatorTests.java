@@ -0,0 +1,229 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+import com.actionnodes.pokerhandcomparator.HoldemEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * HoldemEvaluatorTests
+ * This test class checks that the 7-card evaluation agrees exactly with
+ * the best PokerHand of the 21 5-card combinations of the 7 cards.
+ */
+public class HoldemEvaluatorTests
+{
+	private static Card cards[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+
+	/**
+	 * The indexes of the 5 cards of the 21 5-card combinations of 7 cards.
+	 */
+	static final int COMBINATIONS_5_OF_7[][] = new int[21][];
+	static {
+		int n = 0;
+		for (int i1=0; i1<7; i1++)
+		for (int i2=i1+1; i2<7; i2++)
+		for (int i3=i2+1; i3<7; i3++)
+		for (int i4=i3+1; i4<7; i4++)
+		for (int i5=i4+1; i5<7; i5++) {
+			COMBINATIONS_5_OF_7[n++] = new int[] { i1, i2, i3, i4, i5 };
+		}
+	}
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		for (int c=0; c<cards.length; c++) {
+			cards[c] = Card.of(c);
+		}
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	/**
+	 * This test method evaluates random 7-card hands both ways.
+	 */
+	@Test
+	public void randomHandsTest() {
+		Random random = new Random(7);
+		int deck[] = TestHands.newDeck();
+
+		for (int n=0; n<200000; n++) {
+			// Deal 7 cards by a partial shuffle of the deck.
+			TestHands.shuffle(random, deck, 7);
+			long key = HoldemEvaluator.evaluate(deck[0], deck[1], deck[2], deck[3], deck[4], deck[5], deck[6]);
+			assertEquals(Long.toHexString(bestOf21(deck)), Long.toHexString(key));
+		}
+	}
+
+	/**
+	 * This test method evaluates a batch of random 7-card hands after an offset.
+	 */
+	@Test
+	public void batchTest() {
+		Random random = new Random(22);
+		int deck[] = TestHands.newDeck();
+
+		int hands = 100000;
+		int offset = 3;
+		int batch[] = new int[offset + 7*hands];
+		for (int h=0; h<hands; h++) {
+			TestHands.shuffle(random, deck, 7);
+			System.arraycopy(deck, 0, batch, offset + 7*h, 7);
+		}
+		long keys[] = new long[hands];
+		HoldemEvaluator.evaluateBatch(batch, offset, hands, keys);
+		for (int h=0, c=offset; h<hands; h++, c+=7) {
+			assertEquals(
+				HoldemEvaluator.evaluate(batch[c], batch[c+1], batch[c+2], batch[c+3], batch[c+4], batch[c+5], batch[c+6]), keys[h]);
+		}
+
+		// The same hands in the column layout.
+		int columns[] = new int[7*hands];
+		for (int h=0; h<hands; h++) {
+			for (int i=0; i<7; i++) {
+				columns[i*hands + h] = batch[offset + 7*h + i];
+			}
+		}
+		long columnKeys[] = new long[hands];
+		HoldemEvaluator.evaluateBatchColumns(columns, 0, hands, columnKeys);
+		assertArrayEquals(keys, columnKeys);
+	}
+
+	/**
+	 * This test method checks that a batch hand with a duplicate card is rejected in both layouts.
+	 */
+	@Test
+	public void batchDuplicateCardTest() {
+		// 7 Aces of Spades, and a valid hand with the Ace of Spades twice.
+		int aces[] = { 48, 48, 48, 48, 48, 48, 48 };
+		int duplicate[] = TestHands.cards("SA SA SK SQ SJ H2 D3");
+		for (int hand[] : new int[][] {aces, duplicate}) {
+			assertBatchRejected(hand);
+		}
+	}
+
+	/**
+	 * This test method checks that a batch hand with a card out of the deck is rejected in both layouts.
+	 */
+	@Test
+	public void batchCardOutOfDeckTest() {
+		for (int card : new int[] {PokerHandEvaluator.CARDS_IN_DECK, 55, 64, -1}) {
+			int hand[] = TestHands.cards("SA SK SQ SJ H2 D3 C4");
+			hand[3] = card;
+			assertBatchRejected(hand);
+		}
+	}
+
+	/**
+	 * This test method compares random 7-card hands by the best PokerHand of the 21 combinations.
+	 */
+	@Test
+	public void pokerHandCompareTest() {
+		Random random = new Random(21);
+		int deck[] = TestHands.newDeck();
+
+		for (int n=0; n<5000; n++) {
+			TestHands.shuffle(random, deck, 9);
+			// Two players share the 5 board cards deck[4..8].
+			int hand1[] = { deck[0], deck[1], deck[4], deck[5], deck[6], deck[7], deck[8] };
+			int hand2[] = { deck[2], deck[3], deck[4], deck[5], deck[6], deck[7], deck[8] };
+			int expected = PokerHand.compareHands(bestPokerHand(hand1), bestPokerHand(hand2));
+			int result = Long.compare(
+				HoldemEvaluator.evaluate(hand1[0], hand1[1], hand1[2], hand1[3], hand1[4], hand1[5], hand1[6]),
+				HoldemEvaluator.evaluate(hand2[0], hand2[1], hand2[2], hand2[3], hand2[4], hand2[5], hand2[6]));
+			assertEquals(expected, Integer.signum(result));
+		}
+	}
+
+	@Test
+	public void straightsTest() {
+		// Five-High Straight with a Six: Six-High Straight.
+		long key = HoldemEvaluator.evaluate(
+			TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.D), TestHands.card(Suits.D, Ranks.Tr), TestHands.card(Suits.C, Ranks.Fr),
+			TestHands.card(Suits.S, Ranks.Fv), TestHands.card(Suits.H, Ranks.Sx), TestHands.card(Suits.D, Ranks.K));
+		assertEquals(PokerHandEvaluator.evaluate(
+			TestHands.card(Suits.H, Ranks.D), TestHands.card(Suits.D, Ranks.Tr), TestHands.card(Suits.C, Ranks.Fr),
+			TestHands.card(Suits.S, Ranks.Fv), TestHands.card(Suits.H, Ranks.Sx)), key);
+
+		// A Straight and a Flush, but not a Straight Flush: Flush.
+		key = HoldemEvaluator.evaluate(
+			TestHands.card(Suits.S, Ranks.N), TestHands.card(Suits.S, Ranks.Tn), TestHands.card(Suits.S, Ranks.J), TestHands.card(Suits.H, Ranks.Q),
+			TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.S, Ranks.D), TestHands.card(Suits.D, Ranks.A));
+		assertEquals(PokerHandEvaluator.evaluate(
+			TestHands.card(Suits.S, Ranks.N), TestHands.card(Suits.S, Ranks.Tn), TestHands.card(Suits.S, Ranks.J),
+			TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.S, Ranks.D)), key);
+	}
+
+
+	/**
+	 * It asserts that the hand, after a valid hand, is rejected by both batch layouts.
+	 */
+	private static void assertBatchRejected(int hand[]) {
+		int valid[] = TestHands.cards("S2 S3 H4 H5 D7 D8 C9");
+		int batch[] = new int[14];
+		System.arraycopy(valid, 0, batch, 0, 7);
+		System.arraycopy(hand, 0, batch, 7, 7);
+		try {
+			HoldemEvaluator.evaluateBatch(batch, 0, 2, new long[2]);
+			fail("Hand "+Arrays.toString(hand)+" is not a 7-card hand.");
+		} catch (IllegalArgumentException e) {
+		}
+		int columns[] = new int[14];
+		for (int i=0; i<7; i++) {
+			columns[2*i] = valid[i];
+			columns[2*i + 1] = hand[i];
+		}
+		try {
+			HoldemEvaluator.evaluateBatchColumns(columns, 0, 2, new long[2]);
+			fail("Hand "+Arrays.toString(hand)+" is not a 7-card hand.");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+
+	static long bestOf21(int hand[]) {
+		long best = Long.MIN_VALUE;
+		for (int c[] : COMBINATIONS_5_OF_7) {
+			best = Math.max(best, PokerHandEvaluator.evaluate(hand[c[0]], hand[c[1]], hand[c[2]], hand[c[3]], hand[c[4]]));
+		}
+		return best;
+	}
+
+	static PokerHand bestPokerHand(int hand[]) {
+		PokerHand best = null;
+		for (int c[] : COMBINATIONS_5_OF_7) {
+			PokerHand h = new PokerHand(cards[hand[c[0]]], cards[hand[c[1]]], cards[hand[c[2]]], cards[hand[c[3]]], cards[hand[c[4]]]);
+			if (best == null || PokerHand.compareHands(h, best) > 0) {
+				best = h;
+			}
+		}
+		return best;
+	}
+}
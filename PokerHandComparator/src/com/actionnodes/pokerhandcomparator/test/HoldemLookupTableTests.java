@@ -0,0 +1,103 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.HoldemEvaluator;
+import com.actionnodes.pokerhandcomparator.HoldemLookupTable;
+
+/**
+ * HoldemLookupTableTests
+ * This test class generates the 7-card lookup table file once,
+ * and checks the mapped table against HoldemEvaluator and the file header checks.
+ */
+public class HoldemLookupTableTests
+{
+	private static Path dir;
+	private static Path file;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		dir = Files.createTempDirectory("HoldemLookupTableTests");
+		file = dir.resolve("HoldemLookupTable.dat");
+		HoldemLookupTable.generate(file);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(dir);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomHandsTest() throws IOException {
+		HoldemLookupTable table = HoldemLookupTable.open(file, true);
+
+		Random random = new Random(130);
+		int deck[] = TestHands.newDeck();
+		for (int n=0; n<500000; n++) {
+			TestHands.shuffle(random, deck, 7);
+			long expected = HoldemEvaluator.evaluate(deck[0], deck[1], deck[2], deck[3], deck[4], deck[5], deck[6]);
+			assertEquals(expected, table.evaluate(deck[0], deck[1], deck[2], deck[3], deck[4], deck[5], deck[6]));
+			// The cards may come in any order.
+			assertEquals(expected, table.evaluate(deck[6], deck[5], deck[4], deck[3], deck[2], deck[1], deck[0]));
+		}
+	}
+
+	@Test
+	public void strengthTest() throws IOException {
+		HoldemLookupTable table = HoldemLookupTable.open(file);
+		// Royal Straight Flush of Spades and 2 Deuces: the highest class.
+		assertEquals(7462, table.strength(48, 44, 40, 36, 32, 1, 2));
+		assertEquals(1, HoldemLookupTable.toClassRank(7462));
+	}
+
+	@Test(expected = IOException.class)
+	public void wrongVersionTest() throws IOException {
+		Path wrong = dir.resolve("wrongVersion.dat");
+		ByteBuffer header = ByteBuffer.allocate(36).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(HoldemLookupTable.MAGIC).putInt(HoldemLookupTable.VERSION + 1).putInt(1).putInt(7462);
+		Files.write(wrong, header.array());
+		try {
+			HoldemLookupTable.open(wrong);
+		} finally {
+			Files.delete(wrong);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void notATableTest() throws IOException {
+		Path wrong = dir.resolve("notATable.dat");
+		Files.write(wrong, new byte[64]);
+		try {
+			HoldemLookupTable.open(wrong);
+		} finally {
+			Files.delete(wrong);
+		}
+	}
+}
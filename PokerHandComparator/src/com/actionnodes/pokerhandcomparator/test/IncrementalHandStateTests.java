@@ -0,0 +1,101 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.CompactHand;
+import com.actionnodes.pokerhandcomparator.IncrementalHandState;
+
+/**
+ * IncrementalHandStateTests
+ * This test class adds random cards one at a time, and removes them,
+ * checking the hand comparator value on every street against the evaluation of all the cards at once.
+ */
+public class IncrementalHandStateTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomStreetsTest() {
+		Random random = new Random(15);
+		int deck[] = TestHands.newDeck();
+
+		IncrementalHandState state = new IncrementalHandState();
+		for (int n=0; n<100000; n++) {
+			TestHands.shuffle(random, deck, 8);
+			state.clear();
+			for (int i=0; i<7; i++) {
+				state.addCard(deck[i]);
+				if (i >= 4) {
+					assertEquals(CompactHand.of(state.getCardMask()).getComparator(), state.getComparator());
+				}
+			}
+
+			// What if the turn card was the 8th card instead.
+			IncrementalHandState whatIf = new IncrementalHandState(state);
+			whatIf.removeCard(deck[5]);
+			whatIf.addCard(deck[7]);
+			assertEquals(CompactHand.of(whatIf.getCardMask()).getComparator(), whatIf.getComparator());
+			assertEquals(7, state.getCardCount());
+
+			state.removeCard(deck[random.nextInt(7)]);
+			state.removeCard(Long.numberOfTrailingZeros(state.getCardMask()));
+			assertEquals(CompactHand.of(state.getCardMask()).getComparator(), state.getComparator());
+		}
+	}
+
+	@Test
+	public void countersTest() {
+		IncrementalHandState state = new IncrementalHandState();
+		state.addCard(0);
+		state.addCard(1);
+		state.addCard(5);
+		assertEquals(2, state.rankCount(0));
+		assertEquals(1, state.rankCount(1));
+		assertEquals(1, state.suitCount(0));
+		assertEquals(2, state.suitCount(1));
+		state.removeCard(1);
+		assertEquals(1, state.rankCount(0));
+		assertEquals(1, state.suitCount(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateCard() {
+		IncrementalHandState state = new IncrementalHandState();
+		state.addCard(12);
+		state.addCard(12);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void tooFewCards() {
+		IncrementalHandState state = new IncrementalHandState();
+		state.addCard(12);
+		state.getComparator();
+	}
+}
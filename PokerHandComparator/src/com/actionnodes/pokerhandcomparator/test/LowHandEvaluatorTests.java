@@ -0,0 +1,173 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.LowHandEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * LowHandEvaluatorTests
+ * This test class checks the Deuce-to-seven, Ace-to-five and Eight-or-better low keys:
+ * the numbers of the distinct lows, the ordering of the notable hands, the agreement of Deuce-to-seven
+ * with the reversed high hand order, and the best lows of 7 cards and of Omaha hands.
+ */
+public class LowHandEvaluatorTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void distinctLowsTest() {
+		Set<Integer> deuceToSeven = new HashSet<Integer>();
+		Set<Integer> aceToFive = new HashSet<Integer>();
+		int n = PokerHandEvaluator.CARDS_IN_DECK;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++) {
+			deuceToSeven.add(LowHandEvaluator.deuceToSeven(c1, c2, c3, c4, c5));
+			aceToFive.add(LowHandEvaluator.aceToFive(c1, c2, c3, c4, c5));
+		}
+		assertEquals(LowHandEvaluator.DEUCE_TO_SEVEN_KEYS, deuceToSeven.size());
+		assertEquals(LowHandEvaluator.ACE_TO_FIVE_KEYS, aceToFive.size());
+	}
+
+	@Test
+	public void deuceToSevenTest() {
+		assertEquals(LowHandEvaluator.DEUCE_TO_SEVEN_KEYS, deuceToSeven("S7 H5 D4 C3 S2"));
+		// A-5-4-3-2 is an Ace high, worse than any King high.
+		assertTrue(deuceToSeven("SA H5 D4 C3 S2") < deuceToSeven("SK HQ DJ CT S8"));
+		// The Straights and the Flushes count against the hand.
+		assertTrue(deuceToSeven("S6 H5 D4 C3 S2") < deuceToSeven("S2 H2 D2 C7 S8"));
+		assertTrue(deuceToSeven("S7 S5 S4 S3 S2") > deuceToSeven("SA HA DA CK SK"));
+		assertTrue(deuceToSeven("S7 S5 S4 S3 S2") < deuceToSeven("SA HA DA CK SQ"));
+		assertEquals(1, deuceToSeven("SA SK SQ SJ ST"));
+
+		// Apart from the A-5-4-3-2 hands, the order is the high hand order reversed.
+		Random random = new Random(19);
+		for (int n=0; n<100000; n++) {
+			int a[] = TestHands.deal(random, 5), b[] = TestHands.deal(random, 5);
+			if (isWheel(a) || isWheel(b)) continue;
+			int high = Long.compare(
+				PokerHandEvaluator.evaluate(a[0], a[1], a[2], a[3], a[4]), PokerHandEvaluator.evaluate(b[0], b[1], b[2], b[3], b[4]));
+			int low = Integer.compare(
+				LowHandEvaluator.deuceToSeven(a[0], a[1], a[2], a[3], a[4]), LowHandEvaluator.deuceToSeven(b[0], b[1], b[2], b[3], b[4]));
+			assertEquals(-high, low);
+		}
+	}
+
+	@Test
+	public void aceToFiveTest() {
+		assertEquals(LowHandEvaluator.ACE_TO_FIVE_KEYS, aceToFive("S5 H4 D3 C2 SA"));
+		// The Straights and the Flushes are ignored.
+		assertEquals(aceToFive("S5 H4 D3 C2 SA"), aceToFive("S5 S4 S3 S2 SA"));
+		assertTrue(aceToFive("S6 H4 D3 C2 SA") < aceToFive("S5 H4 D3 C2 SA"));
+		assertTrue(aceToFive("S6 H5 D4 C3 S2") < aceToFive("S6 H4 D3 C2 SA"));
+		// A pair is worse than any high card, the Aces are the lowest pair.
+		assertTrue(aceToFive("SA HA D2 C3 S4") < aceToFive("SK HQ DJ CT S9"));
+		assertTrue(aceToFive("S2 H2 DA C3 S4") < aceToFive("SA HA D2 C3 S4"));
+		assertEquals(1, aceToFive("SK HK DK CK SQ"));
+	}
+
+	@Test
+	public void eightOrBetterTest() {
+		assertEquals(aceToFive("S8 H7 D6 C5 S4"), eightOrBetter("S8 H7 D6 C5 S4"));
+		assertEquals(LowHandEvaluator.NO_LOW, eightOrBetter("S9 H4 D3 C2 SA"));
+		assertEquals(LowHandEvaluator.NO_LOW, eightOrBetter("S2 H2 D3 C4 S5"));
+		assertEquals(LowHandEvaluator.ACE_TO_FIVE_KEYS, eightOrBetter("S5 S4 S3 S2 SA"));
+
+		// The best low of 7 cards (Stud Hi/Lo) is the best of its 5-card lows.
+		Random random = new Random(20);
+		for (int n=0; n<20000; n++) {
+			int cards[] = TestHands.deal(random, 7);
+			int best = LowHandEvaluator.NO_LOW;
+			for (int skip1=0; skip1<7; skip1++)
+			for (int skip2=skip1+1; skip2<7; skip2++) {
+				int h[] = new int[5];
+				int k = 0;
+				for (int i=0; i<7; i++) if (i != skip1 && i != skip2) h[k++] = cards[i];
+				best = Math.max(best, LowHandEvaluator.eightOrBetter(h[0], h[1], h[2], h[3], h[4]));
+			}
+			assertEquals(best, LowHandEvaluator.eightOrBetter(cards));
+		}
+	}
+
+	@Test
+	public void omahaEightOrBetterTest() {
+		Random random = new Random(21);
+		for (int n=0; n<20000; n++) {
+			int holeCards = 4 + n % 2;
+			int cards[] = TestHands.deal(random, holeCards + 5);
+			int hole[] = new int[holeCards];
+			int board[] = new int[5];
+			System.arraycopy(cards, 0, hole, 0, holeCards);
+			System.arraycopy(cards, holeCards, board, 0, 5);
+			int best = LowHandEvaluator.NO_LOW;
+			for (int i=0; i<holeCards; i++)
+			for (int j=i+1; j<holeCards; j++)
+			for (int a=0; a<5; a++)
+			for (int b=a+1; b<5; b++)
+			for (int c=b+1; c<5; c++) {
+				best = Math.max(best, LowHandEvaluator.eightOrBetter(hole[i], hole[j], board[a], board[b], board[c]));
+			}
+			assertEquals(best, LowHandEvaluator.omahaEightOrBetter(hole, board));
+		}
+		// 3 low hole cards do not make a low with only 2 low board cards.
+		assertEquals(LowHandEvaluator.NO_LOW, LowHandEvaluator.omahaEightOrBetter(
+			TestHands.cards("SA S2 S3 HK"), TestHands.cards("D4 D5 CK CQ HJ")));
+	}
+
+
+	private static int deuceToSeven(String hand) {
+		int c[] = TestHands.cards(hand);
+		return LowHandEvaluator.deuceToSeven(c[0], c[1], c[2], c[3], c[4]);
+	}
+
+	private static int aceToFive(String hand) {
+		int c[] = TestHands.cards(hand);
+		return LowHandEvaluator.aceToFive(c[0], c[1], c[2], c[3], c[4]);
+	}
+
+	private static int eightOrBetter(String hand) {
+		int c[] = TestHands.cards(hand);
+		return LowHandEvaluator.eightOrBetter(c[0], c[1], c[2], c[3], c[4]);
+	}
+
+	/**
+	 * If the hand has the ranks A-5-4-3-2 (a Straight in the high hand order, an Ace high in Deuce-to-seven).
+	 */
+	private static boolean isWheel(int hand[]) {
+		int mask = 0;
+		for (int card : hand) mask |= 1 << PokerHandEvaluator.rankOf(card).ordinal();
+		return mask == 0x100F;
+	}
+}
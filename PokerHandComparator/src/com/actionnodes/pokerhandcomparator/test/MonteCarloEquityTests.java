@@ -0,0 +1,89 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.HeadsUpEquity;
+import com.actionnodes.pokerhandcomparator.MonteCarloEquity;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * MonteCarloEquityTests
+ * This test class checks the Monte Carlo equity against the exhaustive heads-up equity,
+ * the multi-way equities and the stop conditions.
+ */
+public class MonteCarloEquityTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void headsUpTest() {
+		int holeA[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.S, Ranks.K) };
+		int holeB[] = { TestHands.card(Suits.H, Ranks.Q), TestHands.card(Suits.D, Ranks.Q) };
+		int board[] = { TestHands.card(Suits.S, Ranks.D), TestHands.card(Suits.H, Ranks.Sv), TestHands.card(Suits.C, Ranks.N) };
+		double exact = HeadsUpEquity.equity(holeA, holeB, board, null).getEquity();
+
+		MonteCarloEquity.Result result = MonteCarloEquity.equity(new int[][] { holeA, holeB }, board, null, 0.002, 10000,
+			new SplittableRandom(12), ForkJoinPool.commonPool());
+		assertTrue(result.getMaxStandardError() <= 0.002);
+		assertEquals(exact, result.getEquity(0), 4 * result.getStandardError(0));
+		assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+		assertTrue(result.getConfidenceLow(0) < result.getEquity(0) && result.getEquity(0) < result.getConfidenceHigh(0));
+	}
+
+	@Test
+	public void multiWayTest() {
+		int holes[][] = {
+			{ TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.A) },
+			{ TestHands.card(Suits.D, Ranks.K), TestHands.card(Suits.C, Ranks.K) },
+			{ TestHands.card(Suits.S, Ranks.Sv), TestHands.card(Suits.S, Ranks.Sx) },
+			{ TestHands.card(Suits.H, Ranks.D), TestHands.card(Suits.D, Ranks.Sv) } };
+		MonteCarloEquity.Result result = MonteCarloEquity.equity(holes, new int[0], null, 0.005, 10000);
+		double total = 0.0;
+		for (int p=0; p<result.getPlayers(); p++) {
+			total += result.getEquity(p);
+		}
+		assertEquals(1.0, total, 1e-9);
+		assertTrue(result.getEquity(0) > result.getEquity(1));
+		assertTrue(result.getEquity(1) > result.getEquity(3));
+	}
+
+	@Test
+	public void timeBudgetTest() {
+		int holes[][] = {
+			{ TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.H, Ranks.A) },
+			{ TestHands.card(Suits.D, Ranks.K), TestHands.card(Suits.C, Ranks.K) },
+			{ TestHands.card(Suits.S, Ranks.Sv), TestHands.card(Suits.S, Ranks.Sx) } };
+		MonteCarloEquity.Result result = MonteCarloEquity.equity(holes, new int[0], null, 0.0, 50);
+		assertTrue(result.getRunouts() > 0);
+		assertTrue(result.getElapsedNanos() < 1000000000L);
+	}
+}
@@ -1,29 +1,144 @@
-/**
- * @author Arkady Koplyarov (arkad.k@gmail.com)
- */
-
-package com.actionnodes.pokerhandcomparator.test;
-
-import org.junit.runner.JUnitCore;
-import org.junit.runner.Result;
-import org.junit.runner.notification.Failure;
-
-/**
- * MyTestRunner
- */
-public class MyTestRunner
-{
-  public static void main(String[] args)
-  {
-    Result result1 = JUnitCore.runClasses(PokerHandFewTests.class);
-    for (Failure failure : result1.getFailures()) {
-      System.out.println(failure.toString());
-    }
-    
-    Result result2 = JUnitCore.runClasses(PokerHandComprehensiveTests.class);
-    for (Failure failure : result2.getFailures()) {
-      System.out.println(failure.toString());
-    }
-    
-  }
-} 
\ No newline at end of file
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/**
+ * MyTestRunner
+ */
+public class MyTestRunner
+{
+  public static void main(String[] args)
+  {
+    Result result1 = JUnitCore.runClasses(PokerHandFewTests.class);
+    for (Failure failure : result1.getFailures()) {
+      System.out.println(failure.toString());
+    }
+    
+    Result result2 = JUnitCore.runClasses(PokerHandComprehensiveTests.class);
+    for (Failure failure : result2.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result3 = JUnitCore.runClasses(PokerHandEquivClassIDsIdeaTests.class);
+    for (Failure failure : result3.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result4 = JUnitCore.runClasses(PokerHandEvaluatorTests.class);
+    for (Failure failure : result4.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result5 = JUnitCore.runClasses(HoldemEvaluatorTests.class);
+    for (Failure failure : result5.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result6 = JUnitCore.runClasses(HoldemLookupTableTests.class);
+    for (Failure failure : result6.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result7 = JUnitCore.runClasses(HandEnumerationJobTests.class);
+    for (Failure failure : result7.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result8 = JUnitCore.runClasses(DeckTests.class);
+    for (Failure failure : result8.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result9 = JUnitCore.runClasses(CardTests.class);
+    for (Failure failure : result9.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result10 = JUnitCore.runClasses(CompactHandTests.class);
+    for (Failure failure : result10.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result11 = JUnitCore.runClasses(HeadsUpEquityTests.class);
+    for (Failure failure : result11.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result12 = JUnitCore.runClasses(MonteCarloEquityTests.class);
+    for (Failure failure : result12.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result13 = JUnitCore.runClasses(HandRangeTests.class);
+    for (Failure failure : result13.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result14 = JUnitCore.runClasses(RangeEquityTests.class);
+    for (Failure failure : result14.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result15 = JUnitCore.runClasses(PreflopEquityMatrixTests.class);
+    for (Failure failure : result15.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result16 = JUnitCore.runClasses(IncrementalHandStateTests.class);
+    for (Failure failure : result16.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result17 = JUnitCore.runClasses(BoardContextTests.class);
+    for (Failure failure : result17.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result18 = JUnitCore.runClasses(ShowdownResolverTests.class);
+    for (Failure failure : result18.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result19 = JUnitCore.runClasses(OmahaEvaluatorTests.class);
+    for (Failure failure : result19.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result20 = JUnitCore.runClasses(LowHandEvaluatorTests.class);
+    for (Failure failure : result20.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result21 = JUnitCore.runClasses(ShortDeckEvaluatorTests.class);
+    for (Failure failure : result21.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result22 = JUnitCore.runClasses(VectorBatchEvaluatorTests.class);
+    for (Failure failure : result22.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result23 = JUnitCore.runClasses(HandRankingTests.class);
+    for (Failure failure : result23.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result24 = JUnitCore.runClasses(SuitIsomorphismTests.class);
+    for (Failure failure : result24.getFailures()) {
+      System.out.println(failure.toString());
+    }
+
+    Result result25 = JUnitCore.runClasses(VectorBatchKernelTests.class);
+    for (Failure failure : result25.getFailures()) {
+      System.out.println(failure.toString());
+    }
+    
+  }
+} 
@@ -0,0 +1,93 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.OmahaEvaluator;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * OmahaEvaluatorTests
+ * This test class checks that the Omaha evaluation agrees exactly with the best PokerHand
+ * of all combinations of 2 hole cards and 3 board cards, for PLO4 and PLO5 hands.
+ */
+public class OmahaEvaluatorTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void randomHandsTest() {
+		Random random = new Random(18);
+		int deck[] = TestHands.newDeck();
+		OmahaEvaluator evaluator = new OmahaEvaluator();
+
+		for (int n=0; n<20000; n++) {
+			int holeCards = 4 + n % 2;
+			TestHands.shuffle(random, deck, holeCards+5);
+			int hole[] = new int[holeCards];
+			System.arraycopy(deck, 0, hole, 0, holeCards);
+			int board[] = new int[5];
+			System.arraycopy(deck, holeCards, board, 0, 5);
+			assertEquals(Long.toHexString(bestPokerHand(hole, board)), Long.toHexString(evaluator.evaluate(hole, board)));
+		}
+	}
+
+	@Test
+	public void exactlyTwoHoleCardsTest() {
+		// Four Spades in the hand and one on the board: no Flush.
+		int hole[] = { TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.S, Ranks.Q), TestHands.card(Suits.S, Ranks.J) };
+		int board[] = { TestHands.card(Suits.S, Ranks.D), TestHands.card(Suits.H, Ranks.Sv), TestHands.card(Suits.D, Ranks.Sv), TestHands.card(Suits.C, Ranks.N), TestHands.card(Suits.H, Ranks.Tr) };
+		assertEquals(bestPokerHand(hole, board), new OmahaEvaluator().evaluate(hole, board));
+		assertTrue(new OmahaEvaluator().evaluate(hole, board) < PokerHandEvaluator.evaluate(
+			TestHands.card(Suits.S, Ranks.A), TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.S, Ranks.Q), TestHands.card(Suits.S, Ranks.J), TestHands.card(Suits.S, Ranks.D)));
+
+		// Four of a kind on the board plays as Trips with 2 hole cards.
+		board = new int[] { TestHands.card(Suits.S, Ranks.Sv), TestHands.card(Suits.H, Ranks.Sv), TestHands.card(Suits.D, Ranks.Sv), TestHands.card(Suits.C, Ranks.Sv), TestHands.card(Suits.H, Ranks.D) };
+		hole = new int[] { TestHands.card(Suits.H, Ranks.A), TestHands.card(Suits.D, Ranks.K), TestHands.card(Suits.C, Ranks.Q), TestHands.card(Suits.D, Ranks.J) };
+		assertEquals(bestPokerHand(hole, board), new OmahaEvaluator().evaluate(hole, board));
+	}
+
+
+	private static long bestPokerHand(int hole[], int board[]) {
+		long best = Long.MIN_VALUE;
+		for (int h1=0; h1<hole.length; h1++)
+		for (int h2=h1+1; h2<hole.length; h2++)
+		for (int b1=0; b1<board.length; b1++)
+		for (int b2=b1+1; b2<board.length; b2++)
+		for (int b3=b2+1; b3<board.length; b3++) {
+			PokerHand hand = new PokerHand(Card.of(hole[h1]), Card.of(hole[h2]), Card.of(board[b1]), Card.of(board[b2]), Card.of(board[b3]));
+			best = Math.max(best, hand.getComparator());
+		}
+		return best;
+	}
+}
@@ -0,0 +1,227 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Categories;
+import com.actionnodes.pokerhandcomparator.Deck;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEquivClassIDsIdea;
+
+/**
+ * PokerHandEquivClassIDsIdeaTests
+ * This test class checks the generated array of all 7462 hand equivalence classes
+ * and compares a representative hand of every class with the hand of the next lower class
+ * by both the PokerHandEquivClassIDsIdea class and the PokerHand class,
+ * and the strength ranks and the percentiles of all 2,598,960 5-card hands.
+ */
+public class PokerHandEquivClassIDsIdeaTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void equivalenceClassIDs() {
+		long ids[] = PokerHandEquivClassIDsIdea.HandEquivalenceClasseRankingIDs;
+		assertEquals(7462, ids.length);
+		assertEquals(0x0011111100000000L, ids[0]);
+		assertEquals(0x0004100000000000L, ids[10]);
+		assertEquals(0x0004010000000000L, ids[11]);
+		assertEquals(0x0004001000000000L, ids[12]);
+		assertEquals(0x0000000000110111L, ids[7460]);
+		assertEquals(0x0000000000101111L, ids[7461]);
+
+		for (int i=0; i<ids.length; i++) {
+			assertEquals(i+1, PokerHandEquivClassIDsIdea.getClassRank(
+				ids[i] & ~PokerHandEquivClassIDsIdea.FLUSH_FLAG,
+				(ids[i] & PokerHandEquivClassIDsIdea.FLUSH_FLAG) != 0));
+		}
+	}
+
+	/**
+	 * This test method compares the representative hands of every two adjacent equivalence classes.
+	 */
+	@Test
+	public void adjacentClassesTest() {
+		long ids[] = PokerHandEquivClassIDsIdea.HandEquivalenceClasseRankingIDs;
+		Card prevCards[] = null;
+		for (int i=0; i<ids.length; i++) {
+			Card cards[] = representativeCards(ids[i]);
+			PokerHandEquivClassIDsIdea h = new PokerHandEquivClassIDsIdea(cards[0], cards[1], cards[2], cards[3], cards[4]);
+			assertEquals(i+1, h.getClassRank());
+			if (prevCards != null) {
+				PokerHandEquivClassIDsIdea prev = new PokerHandEquivClassIDsIdea(prevCards[0], prevCards[1], prevCards[2], prevCards[3], prevCards[4]);
+				assertEquals(prev.toString() + " vs " + h.toString(), 1, PokerHandEquivClassIDsIdea.compareHands(prev, h));
+				assertEquals(h.toString() + " vs " + prev.toString(), -1, PokerHandEquivClassIDsIdea.compareHands(h, prev));
+				assertEquals(0, PokerHandEquivClassIDsIdea.compareHands(h, h));
+
+				PokerHand prevHand = new PokerHand(prevCards[0], prevCards[1], prevCards[2], prevCards[3], prevCards[4]);
+				PokerHand hand = new PokerHand(cards[0], cards[1], cards[2], cards[3], cards[4]);
+				assertTrue(prevHand.toString() + " vs " + hand.toString(), PokerHand.compareHands(prevHand, hand) > 0);
+			}
+			prevCards = cards;
+		}
+	}
+
+	/**
+	 * This test method counts the hands of every strength rank over all 2,598,960 5-card hands,
+	 * and checks the percentile of every rank by the counts of the weaker hands.
+	 */
+	@Test
+	public void strengthRankPercentileTest() {
+		Card cards[] = new Card[52];
+		for (int c=0; c<cards.length; c++) {
+			cards[c] = Card.of(c);
+		}
+		long counts[] = new long[PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES+1];
+		int n = cards.length;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++) {
+			PokerHand hand = new PokerHand(cards[c1], cards[c2], cards[c3], cards[c4], cards[c5]);
+			int rank = hand.strengthRank();
+			if (rank < 1 || rank > PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES
+				|| PokerHandEquivClassIDsIdea.getCategory(rank) != hand.getCategory()) {
+				fail("Strength rank test failed: " + hand.toString() + " " + rank);
+			}
+			counts[rank]++;
+		}
+		long weaker = 0;
+		for (int rank=PokerHandEquivClassIDsIdea.HAND_EQUIVALENCE_CLASSES; rank>=1; rank--) {
+			assertTrue(counts[rank] > 0);
+			assertEquals((double)weaker / PokerHandEquivClassIDsIdea.FIVE_CARD_HANDS, PokerHandEquivClassIDsIdea.getPercentile(rank), 0.0);
+			weaker += counts[rank];
+		}
+		assertEquals(PokerHandEquivClassIDsIdea.FIVE_CARD_HANDS, weaker);
+		assertEquals(-1.0, PokerHandEquivClassIDsIdea.getPercentile(0), 0.0);
+	}
+
+	@Test
+	public void strengthRankTest() {
+		PokerHand royal = new PokerHand(
+				Card.of(Suits.S,Ranks.A),
+				Card.of(Suits.S,Ranks.K),
+				Card.of(Suits.S,Ranks.Q),
+				Card.of(Suits.S,Ranks.J),
+				Card.of(Suits.S,Ranks.Tn) );
+		assertEquals(1, royal.strengthRank());
+		assertEquals(1.0 - 4.0/2598960, royal.percentile(), 1e-12);
+		PokerHand worst = new PokerHand(
+				Card.of(Suits.S,Ranks.Sv),
+				Card.of(Suits.H,Ranks.Fv),
+				Card.of(Suits.S,Ranks.Fr),
+				Card.of(Suits.S,Ranks.Tr),
+				Card.of(Suits.S,Ranks.D) );
+		assertEquals(7462, worst.strengthRank());
+		assertEquals(0.0, worst.percentile(), 0.0);
+
+		// AAAAK of Spades (duplicate cards), as in PokerHandComprehensiveTests.
+		boolean duplicateNotAllowed = Deck.isDUPLICATE_CARDS_NOT_ALLOWED();
+		Deck.setDUPLICATE_CARDS_NOT_ALLOWED(false);
+		PokerHand quads = new PokerHand(
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.K) );
+		Deck.setDUPLICATE_CARDS_NOT_ALLOWED(duplicateNotAllowed);
+		assertEquals(Categories.K4, quads.getCategory());
+		assertEquals(11, quads.strengthRank());
+		assertEquals(PokerHandEquivClassIDsIdea.getPercentile(11), quads.percentile(), 0.0);
+		assertTrue(quads.percentile() > 0.99);
+	}
+
+	@Test
+	public void fourOfKindKicker() {
+		PokerHandEquivClassIDsIdea h1 = new PokerHandEquivClassIDsIdea(
+				Card.of(Suits.C,Ranks.A),
+				Card.of(Suits.D,Ranks.A),
+				Card.of(Suits.H,Ranks.A),
+				Card.of(Suits.S,Ranks.A),
+				Card.of(Suits.S,Ranks.K) );
+		PokerHandEquivClassIDsIdea h2 = new PokerHandEquivClassIDsIdea(
+				Card.of(Suits.C,Ranks.A),
+				Card.of(Suits.D,Ranks.A),
+				Card.of(Suits.H,Ranks.A),
+				Card.of(Suits.S,Ranks.A),
+				Card.of(Suits.D,Ranks.Q) );
+		assertEquals(11, h1.getClassRank());
+		assertEquals(12, h2.getClassRank());
+		assertEquals(1, PokerHandEquivClassIDsIdea.compareHands(h1, h2));
+	}
+
+
+	/**
+	 * This test method checks the same-suit paired hands (duplicate cards), which PokerHand categorizes
+	 * by their ranks only: AAAAK of Spades is Four of a Kind, and AAAKK of Spades is a Full House.
+	 */
+	@Test
+	public void sameSuitPairedHandsTest() {
+		boolean duplicateNotAllowed = Deck.isDUPLICATE_CARDS_NOT_ALLOWED();
+		Deck.setDUPLICATE_CARDS_NOT_ALLOWED(false);
+		PokerHandEquivClassIDsIdea quads = new PokerHandEquivClassIDsIdea(
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.K) );
+		assertEquals(11, quads.getClassRank());
+		PokerHandEquivClassIDsIdea fullHouse = new PokerHandEquivClassIDsIdea(
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.A),
+				new Card(Suits.S,Ranks.K),
+				new Card(Suits.S,Ranks.K) );
+		assertEquals(Categories.FH, PokerHandEquivClassIDsIdea.getCategory(fullHouse.getClassRank()));
+		assertEquals(1, PokerHandEquivClassIDsIdea.compareHands(quads, fullHouse));
+		Deck.setDUPLICATE_CARDS_NOT_ALLOWED(duplicateNotAllowed);
+	}
+
+
+	/**
+	 * It makes the cards of a hand of the specified equivalence class.
+	 * The cards of a flush are all Spades; otherwise the suits alternate,
+	 * so the first 4 cards are always of 4 different suits.
+	 */
+	static Card[] representativeCards(long id) {
+		final Suits suits[] = { Suits.S, Suits.H, Suits.D, Suits.C };
+		boolean flush = (id & PokerHandEquivClassIDsIdea.FLUSH_FLAG) != 0;
+		Card cards[] = new Card[5];
+		int n = 0;
+		for (int i=Ranks.enumSize-1; i>=0; i--) {
+			int count = (int)((id >>> (4*i)) & 0xFL);
+			for (int j=0; j<count; j++, n++) {
+				cards[n] = Card.of(flush ? Suits.S : suits[n%4], Ranks.getElemValueByIdx(i));
+			}
+		}
+		return cards;
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+
+/**
+ * PokerHandEvaluatorTests
+ * This test class checks that the int card evaluation produces exactly the same
+ * hand comparator values as the PokerHand class, for all 2,598,960 5-card hands.
+ */
+public class PokerHandEvaluatorTests
+{
+	private static Card cards[] = new Card[PokerHandEvaluator.CARDS_IN_DECK];
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		for (int c=0; c<cards.length; c++) {
+			cards[c] = Card.of(c);
+		}
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void cardEncoding() {
+		for (int c=0; c<PokerHandEvaluator.CARDS_IN_DECK; c++) {
+			assertEquals(c, PokerHandEvaluator.toCard(PokerHandEvaluator.suitOf(c), PokerHandEvaluator.rankOf(c)));
+		}
+		assertEquals(0, PokerHandEvaluator.toCard(Suits.S, Ranks.D));
+		assertEquals(51, PokerHandEvaluator.toCard(Suits.C, Ranks.A));
+	}
+
+	/**
+	 * This test method evaluates all 2,598,960 5-card hands both ways.
+	 */
+	@Test
+	public void allHandsTest() {
+		int n = PokerHandEvaluator.CARDS_IN_DECK;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++) {
+			PokerHand hand = new PokerHand(cards[c1], cards[c2], cards[c3], cards[c4], cards[c5]);
+			long key = PokerHandEvaluator.evaluate(c1, c2, c3, c4, c5);
+			if (key != hand.getComparator()) {
+				fail("Evaluation test failed: " + hand.toString() + " " + Long.toHexString(key) + " while it's expected to be " + Long.toHexString(hand.getComparator()));
+			}
+		}
+	}
+
+	/**
+	 * This test method evaluates all 2,598,960 5-card hands as one batch after an offset.
+	 */
+	@Test
+	public void allHandsBatchTest() {
+		int n = PokerHandEvaluator.CARDS_IN_DECK;
+		int hands = 2598960;
+		int offset = 2;
+		int batch[] = new int[offset + 5*hands];
+		int k = offset;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++) {
+			batch[k++] = c1; batch[k++] = c2; batch[k++] = c3; batch[k++] = c4; batch[k++] = c5;
+		}
+		long keys[] = new long[hands];
+		PokerHandEvaluator.evaluateBatch(batch, offset, hands, keys);
+		for (int h=0, c=offset; h<hands; h++, c+=5) {
+			long key = PokerHandEvaluator.evaluate(batch[c], batch[c+1], batch[c+2], batch[c+3], batch[c+4]);
+			if (key != keys[h]) {
+				fail("Batch evaluation test failed: hand " + h + " " + Long.toHexString(keys[h]) + " while it's expected to be " + Long.toHexString(key));
+			}
+		}
+	}
+
+	/**
+	 * This test method evaluates random 5-card hands in the column layout and as interleaved hands.
+	 */
+	@Test
+	public void batchColumnsTest() {
+		Random random = new Random(22);
+		int deck[] = TestHands.newDeck();
+		int hands = 10000;
+		int offset = 3;
+		int batch[] = new int[5*hands];
+		int columns[] = new int[offset + 5*hands];
+		for (int h=0; h<hands; h++) {
+			TestHands.shuffle(random, deck, 5);
+			for (int i=0; i<5; i++) {
+				batch[5*h + i] = deck[i];
+				columns[offset + i*hands + h] = deck[i];
+			}
+		}
+		long keys[] = new long[hands];
+		long columnKeys[] = new long[hands];
+		PokerHandEvaluator.evaluateBatch(batch, 0, hands, keys);
+		PokerHandEvaluator.evaluateBatchColumns(columns, offset, hands, columnKeys);
+		assertArrayEquals(keys, columnKeys);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBatchHandTest() {
+		int ace = PokerHandEvaluator.toCard(Suits.S, Ranks.A);
+		PokerHandEvaluator.evaluateBatch(new int[] { ace, ace, ace, ace, ace }, 0, 1, new long[1]);
+	}
+
+	@Test
+	public void compareTest() {
+		int royalFlush[] = {
+			PokerHandEvaluator.toCard(Suits.S, Ranks.A), PokerHandEvaluator.toCard(Suits.S, Ranks.K),
+			PokerHandEvaluator.toCard(Suits.S, Ranks.Q), PokerHandEvaluator.toCard(Suits.S, Ranks.J),
+			PokerHandEvaluator.toCard(Suits.S, Ranks.Tn) };
+		int straight[] = {
+			PokerHandEvaluator.toCard(Suits.H, Ranks.A), PokerHandEvaluator.toCard(Suits.S, Ranks.K),
+			PokerHandEvaluator.toCard(Suits.D, Ranks.Q), PokerHandEvaluator.toCard(Suits.C, Ranks.J),
+			PokerHandEvaluator.toCard(Suits.S, Ranks.Tn) };
+		int wheel[] = {
+			PokerHandEvaluator.toCard(Suits.H, Ranks.Fv), PokerHandEvaluator.toCard(Suits.S, Ranks.Fr),
+			PokerHandEvaluator.toCard(Suits.D, Ranks.Tr), PokerHandEvaluator.toCard(Suits.C, Ranks.D),
+			PokerHandEvaluator.toCard(Suits.S, Ranks.A) };
+		assertEquals(1, PokerHandEvaluator.compare(royalFlush, straight));
+		assertEquals(1, PokerHandEvaluator.compare(straight, wheel));
+		assertEquals(-1, PokerHandEvaluator.compare(wheel, royalFlush));
+		assertEquals(0, PokerHandEvaluator.compare(straight, straight));
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.HandRange;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.PreflopEquityMatrix;
+import com.actionnodes.pokerhandcomparator.RangeEquity;
+
+/**
+ * PreflopEquityMatrixTests
+ * This test class checks the starting hand classes, and computes the first cells of the matrix 
+ * in two runs, the second resuming from the checkpoint file of the first.
+ */
+public class PreflopEquityMatrixTests
+{
+	private static Path dir;
+	private static Path file;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		dir = Files.createTempDirectory("PreflopEquityMatrixTests");
+		file = dir.resolve("PreflopEquityMatrix.dat");
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(dir);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void classesTest() {
+		Set<Integer> classes = new HashSet<Integer>();
+		int combos[] = new int[PreflopEquityMatrix.CLASSES];
+		for (int c1=0; c1<PokerHandEvaluator.CARDS_IN_DECK; c1++) {
+			for (int c2=c1+1; c2<PokerHandEvaluator.CARDS_IN_DECK; c2++) {
+				int index = PreflopEquityMatrix.classIndex(c1, c2);
+				classes.add(index);
+				combos[index]++;
+				assertEquals(index, PreflopEquityMatrix.classIndex(c2, c1));
+			}
+		}
+		assertEquals(PreflopEquityMatrix.CLASSES, classes.size());
+		for (int c=0; c<PreflopEquityMatrix.CLASSES; c++) {
+			assertEquals(HandRange.parse(PreflopEquityMatrix.className(c)).size(), combos[c]);
+		}
+	}
+
+	@Test
+	public void checkpointTest() throws IOException {
+		PreflopEquityMatrix matrix = PreflopEquityMatrix.compute(file, 2);
+		assertEquals(2, matrix.getComputedCells());
+		matrix = PreflopEquityMatrix.compute(file, 1);
+		assertEquals(3, matrix.getComputedCells());
+		assertFalse(matrix.isComplete());
+
+		PreflopEquityMatrix loaded = PreflopEquityMatrix.load(file);
+		assertEquals(3, loaded.getComputedCells());
+		for (int c=1; c<=3; c++) {
+			double expected = RangeEquity.equity(
+				HandRange.parse(PreflopEquityMatrix.className(0)), 
+				HandRange.parse(PreflopEquityMatrix.className(c)), new int[0], null).getEquity();
+			assertEquals(expected, loaded.equity(0, c), 1e-6);
+			assertEquals(1.0 - expected, loaded.equity(c, 0), 1e-6);
+		}
+		assertEquals(0.5f, loaded.equity(7, 7), 0.0f);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void notComputedTest() throws IOException {
+		PreflopEquityMatrix.compute(file, 0).equity(PreflopEquityMatrix.CLASSES - 2, PreflopEquityMatrix.CLASSES - 1);
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.HandRange;
+import com.actionnodes.pokerhandcomparator.HeadsUpEquity;
+import com.actionnodes.pokerhandcomparator.RangeEquity;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * RangeEquityTests
+ * This test class checks the range-vs-range equity against the heads-up equities of all the pairs of the combos,
+ * both on a board and preflop (by the canonical forms of the pairs).
+ */
+public class RangeEquityTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void flopTest() {
+		HandRange range1 = HandRange.parse("QQ+, AKs:0.5");
+		HandRange range2 = HandRange.parse("JJ-99, KQs");
+		int board[] = { TestHands.card(Suits.S, Ranks.K), TestHands.card(Suits.H, Ranks.N), TestHands.card(Suits.D, Ranks.Fr) };
+		int dead[] = { TestHands.card(Suits.C, Ranks.Q) };
+
+		RangeEquity.Result result = RangeEquity.equity(range1, range2, board, dead);
+		assertEquals(pairsEquity(range1, range2, board, dead), result.getEquity(), 1e-9);
+	}
+
+	@Test
+	public void preflopTest() {
+		HandRange range1 = HandRange.parse("AsKs, AhKd");
+		HandRange range2 = HandRange.parse("QQ");
+		RangeEquity.Result result = RangeEquity.equity(range1, range2, new int[0], null);
+		assertEquals(12, result.getPairs());
+		assertEquals(pairsEquity(range1, range2, new int[0], null), result.getEquity(), 1e-9);
+	}
+
+
+	/**
+	 * It returns the weighted average of the heads-up equities of the pairs of the combos.
+	 */
+	private static double pairsEquity(HandRange range1, HandRange range2, int board[], int dead[]) {
+		long used = 0L;
+		for (int c : board) used |= 1L << c;
+		if (dead != null) for (int c : dead) used |= 1L << c;
+		double equity = 0.0, weight = 0.0;
+		for (int i=0; i<range1.size(); i++) {
+			for (int j=0; j<range2.size(); j++) {
+				long combo1 = range1.getCombo(i), combo2 = range2.getCombo(j);
+				if ((combo1 & combo2) != 0 || ((combo1 | combo2) & used) != 0) continue;
+				double w = range1.getWeight(i) * range2.getWeight(j);
+				equity += w * HeadsUpEquity.equity(cards(combo1), cards(combo2), board, dead).getEquity();
+				weight += w;
+			}
+		}
+		return equity / weight;
+	}
+
+	private static int[] cards(long combo) {
+		return new int[] { Long.numberOfTrailingZeros(combo), 63 - Long.numberOfLeadingZeros(combo) };
+	}
+}
@@ -0,0 +1,154 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.Categories;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.ShortDeckEvaluator;
+
+/**
+ * ShortDeckEvaluatorTests
+ * This test class checks the Short-deck ranking: the number of the hand classes, the Flush above
+ * the Full House, the A-6-7-8-9 wheel, the agreement with the standard ranking elsewhere,
+ * and the 7-card evaluation against the best of the 21 5-card hands.
+ */
+public class ShortDeckEvaluatorTests
+{
+	private static int deck[] = null;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		deck = new int[36];
+		int n = 0;
+		for (int card=0; card<PokerHandEvaluator.CARDS_IN_DECK; card++) {
+			if (ShortDeckEvaluator.isShortDeckCard(card)) deck[n++] = card;
+		}
+		assertEquals(deck.length, n);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void allHandsTest() {
+		Set<Integer> keys = new HashSet<Integer>();
+		int categories[] = new int[Categories.values().length];
+		int n = deck.length;
+		for (int c1=0; c1<n; c1++)
+		for (int c2=c1+1; c2<n; c2++)
+		for (int c3=c2+1; c3<n; c3++)
+		for (int c4=c3+1; c4<n; c4++)
+		for (int c5=c4+1; c5<n; c5++) {
+			int key = ShortDeckEvaluator.evaluate(deck[c1], deck[c2], deck[c3], deck[c4], deck[c5]);
+			keys.add(key);
+			categories[ShortDeckEvaluator.getCategory(key).ordinal()]++;
+		}
+		assertEquals(ShortDeckEvaluator.CLASSES, keys.size());
+		// 6 Straights (A-6-7-8-9 to T-J-Q-K-A) of 4 suits are the Straight Flushes.
+		assertEquals(6*4, categories[Categories.SF.ordinal()]);
+		assertEquals(9*32, categories[Categories.K4.ordinal()]);
+		assertEquals(9*4*8*6, categories[Categories.FH.ordinal()]);
+		assertEquals((126-6)*4, categories[Categories.F.ordinal()]);
+		assertEquals(6*(1024-4), categories[Categories.S.ordinal()]);
+	}
+
+	@Test
+	public void rankingTest() {
+		assertEquals(ShortDeckEvaluator.CLASSES, evaluate("SA SK SQ SJ ST"));
+		assertEquals(1, evaluate("SJ H9 D8 C7 S6"));
+		// A Flush beats a Full House.
+		assertTrue(evaluate("SJ S9 S8 S7 S6") > evaluate("SA HA DA CK SK"));
+		assertEquals(Categories.F, ShortDeckEvaluator.getCategory(evaluate("SJ S9 S8 S7 S6")));
+		// A-6-7-8-9 is the lowest Straight.
+		assertEquals(Categories.S, ShortDeckEvaluator.getCategory(evaluate("SA H9 D8 C7 S6")));
+		assertTrue(evaluate("SA H9 D8 C7 S6") < evaluate("ST H9 D8 C7 S6"));
+		assertTrue(evaluate("SA H9 D8 C7 S6") > evaluate("SA HA DA CK SQ"));
+		assertEquals(Categories.SF, ShortDeckEvaluator.getCategory(evaluate("SA S9 S8 S7 S6")));
+		assertTrue(evaluate("SA S9 S8 S7 S6") > evaluate("SA HA DA CA SK"));
+	}
+
+	@Test
+	public void standardOrderTest() {
+		// Apart from the Flushes, the Full Houses and the A-6-7-8-9 Straights, the order is the standard one.
+		Random random = new Random(20);
+		for (int n=0; n<100000; n++) {
+			int a[] = TestHands.deal(random, deck, 5), b[] = TestHands.deal(random, deck, 5);
+			int keyA = ShortDeckEvaluator.evaluate(a), keyB = ShortDeckEvaluator.evaluate(b);
+			if (isSpecial(keyA, a) || isSpecial(keyB, b)) continue;
+			assertEquals(
+				Integer.signum(Long.compare(
+					PokerHandEvaluator.evaluate(a[0], a[1], a[2], a[3], a[4]), PokerHandEvaluator.evaluate(b[0], b[1], b[2], b[3], b[4]))),
+				Integer.signum(Integer.compare(keyA, keyB)));
+		}
+	}
+
+	@Test
+	public void sevenCardsTest() {
+		Random random = new Random(21);
+		for (int n=0; n<50000; n++) {
+			int cards[] = TestHands.deal(random, deck, 7);
+			int best = 0;
+			for (int skip1=0; skip1<7; skip1++)
+			for (int skip2=skip1+1; skip2<7; skip2++) {
+				int h[] = new int[5];
+				int k = 0;
+				for (int i=0; i<7; i++) if (i != skip1 && i != skip2) h[k++] = cards[i];
+				best = Math.max(best, ShortDeckEvaluator.evaluate(h[0], h[1], h[2], h[3], h[4]));
+			}
+			assertEquals(best, ShortDeckEvaluator.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4], cards[5], cards[6]));
+			assertEquals(best, ShortDeckEvaluator.evaluate(cards));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notShortDeckCardTest() {
+		evaluate("SA H9 D8 C7 S5");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateCardTest() {
+		ShortDeckEvaluator.evaluate(TestHands.cards("SA H9 D8 C7 S6 SA"));
+	}
+
+
+	private static int evaluate(String hand) {
+		return ShortDeckEvaluator.evaluate(TestHands.cards(hand));
+	}
+
+	/**
+	 * If the hand is a Flush, a Full House or an A-6-7-8-9 Straight (Flush), ranked differently in Short-deck.
+	 */
+	private static boolean isSpecial(int key, int hand[]) {
+		Categories category = ShortDeckEvaluator.getCategory(key);
+		if (category == Categories.F || category == Categories.FH) return true;
+		int mask = 0;
+		for (int card : hand) mask |= 1 << PokerHandEvaluator.rankOf(card).ordinal();
+		return mask == (1 << Ranks.A.ordinal() | 1 << Ranks.N.ordinal() | 1 << Ranks.E.ordinal() | 
+			1 << Ranks.Sv.ordinal() | 1 << Ranks.Sx.ordinal());
+	}
+}
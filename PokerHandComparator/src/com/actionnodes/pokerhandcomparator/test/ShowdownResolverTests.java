@@ -0,0 +1,213 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.ShowdownResolver;
+
+/**
+ * ShowdownResolverTests
+ * This test class checks the ranking of the players with ties, and the division of the main pot
+ * and the side pots, including the multi-way split pots and the odd chips, and the hi/lo split pots.
+ */
+public class ShowdownResolverTests
+{
+	private static final long F = ShowdownResolver.FOLDED;
+	private ShowdownResolver resolver;
+	private long payouts[];
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		resolver = new ShowdownResolver();
+		payouts = new long[ShowdownResolver.MAX_PLAYERS];
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void rankTest() {
+		long keys[] = { 5, 9, F, 9, 1, 5 };
+		int places[] = new int[keys.length];
+		assertEquals(2, resolver.rank(keys, keys.length, places));
+		assertArrayEquals(new int[] { 3, 1, 0, 1, 5, 3 }, places);
+	}
+
+	@Test
+	public void singleWinnerTest() {
+		resolver.resolve(new long[] { 3, 7, 5 }, new long[] { 100, 100, 100 }, 3, 0, payouts);
+		assertPayouts(new long[] { 0, 300, 0 });
+	}
+
+	@Test
+	public void splitPotOddChipTest() {
+		// The main pot of 300 chips split by 2 players, the unmatched chip goes back to the player 2.
+		resolver.resolve(new long[] { 7, 7, 5 }, new long[] { 100, 100, 101 }, 3, 2, payouts);
+		assertPayouts(new long[] { 150, 150, 1 });
+		// 201 chips (1 put in by the folded player 1) split by 2 players, from the seat 1: the player 2 gets the odd chip.
+		resolver.resolve(new long[] { 7, F, 7 }, new long[] { 100, 1, 100 }, 3, 1, payouts);
+		assertPayouts(new long[] { 100, 0, 101 });
+	}
+
+	@Test
+	public void threeWayTieTest() {
+		// 100 chips split 3 ways: the 1 odd chip goes to the seat 1, the first seat.
+		resolver.resolve(new long[] { 8, 8, 8, F }, new long[] { 30, 30, 30, 10 }, 4, 1, payouts);
+		assertPayouts(new long[] { 33, 34, 33, 0 });
+	}
+
+	@Test
+	public void sidePotsTest() {
+		// The short all-in stack has the best hand: it wins the main pot of 4 x 50,
+		// the second best wins the side pot of 3 x 50, the third best takes back its unmatched 100.
+		long keys[] = { 9, 5, 7, 3 };
+		long contributions[] = { 50, 300, 100, 100 };
+		resolver.resolve(keys, contributions, 4, 0, payouts);
+		assertPayouts(new long[] { 200, 200, 150, 0 });
+	}
+
+	@Test
+	public void sidePotTieTest() {
+		// The main pot (3 x 40) goes to the player 0; the side pot (2 x 60) is split by the tied players 1 and 2.
+		long keys[] = { 9, 6, 6 };
+		long contributions[] = { 40, 100, 100 };
+		resolver.resolve(keys, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 120, 60, 60 });
+
+		// Everybody ties: every pot is split between its players.
+		keys = new long[] { 6, 6, 6 };
+		contributions = new long[] { 41, 100, 100 };
+		resolver.resolve(keys, contributions, 3, 0, payouts);
+		// The main pot 123 / 3 = 41, the side pot 118 / 2 = 59.
+		assertPayouts(new long[] { 41, 100, 100 });
+	}
+
+	@Test
+	public void foldedTest() {
+		// The folded player 0 has put in more than the others: the layer nobody alive reached goes to the winner.
+		long keys[] = { F, 5, 7 };
+		long contributions[] = { 200, 100, 100 };
+		resolver.resolve(keys, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 0, 0, 400 });
+	}
+
+	@Test
+	public void chipsConservedTest() {
+		Random random = new Random(17);
+		long keys[] = new long[ShowdownResolver.MAX_PLAYERS];
+		long contributions[] = new long[ShowdownResolver.MAX_PLAYERS];
+		for (int n=0; n<10000; n++) {
+			int players = 2 + random.nextInt(ShowdownResolver.MAX_PLAYERS - 1);
+			long total = 0;
+			boolean live = false;
+			for (int p=0; p<players; p++) {
+				keys[p] = random.nextInt(4) == 0 ? F : random.nextInt(5);
+				live |= keys[p] != F;
+				contributions[p] = 1 + random.nextInt(1000);
+				total += contributions[p];
+			}
+			if (!live) keys[0] = 0;
+			resolver.resolve(keys, contributions, players, random.nextInt(players), payouts);
+			long paid = 0;
+			for (int p=0; p<players; p++) {
+				paid += payouts[p];
+				if (keys[p] == F) assertEquals(0, payouts[p]);
+			}
+			assertEquals(total, paid);
+		}
+	}
+
+	@Test
+	public void hiLoSplitTest() {
+		// The high half to the player 0, the low half to the player 1.
+		long hiKeys[] = { 9, 5, 7 };
+		long contributions[] = { 100, 100, 100 };
+		resolver.resolveHiLo(hiKeys, new long[] { 0, 100, 50 }, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 150, 150, 0 });
+
+		// No qualifying low: the high hand scoops.
+		resolver.resolveHiLo(hiKeys, new long[] { 0, 0, 0 }, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 300, 0, 0 });
+
+		// The best high and the best low: the player 0 scoops.
+		resolver.resolveHiLo(hiKeys, new long[] { 100, 50, 0 }, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 300, 0, 0 });
+
+		// The folded player's low does not count.
+		resolver.resolveHiLo(new long[] { 9, F, 7 }, new long[] { 0, 100, 50 }, contributions, 3, 0, payouts);
+		assertPayouts(new long[] { 150, 0, 150 });
+	}
+
+	@Test
+	public void hiLoOddChipAndQuarterTest() {
+		// 303 chips: the odd chip of the halves goes to the high half (152), the low half (151) is split by 
+		// the tied players 1 and 2 from the seat 1 (quartered).
+		long hiKeys[] = { 9, 5, 7 };
+		long loKeys[] = { 0, 60, 60 };
+		resolver.resolveHiLo(hiKeys, loKeys, new long[] { 101, 101, 101 }, 3, 1, payouts);
+		assertPayouts(new long[] { 152, 76, 75 });
+	}
+
+	@Test
+	public void hiLoSidePotsTest() {
+		// The main pot (3 x 50) is split: high to the player 0, low to the player 2;
+		// the player 2 has both the best high and the only low of the side pot (2 x 100), so it scoops it.
+		long hiKeys[] = { 9, 5, 7 };
+		long loKeys[] = { 0, 0, 40 };
+		resolver.resolveHiLo(hiKeys, loKeys, new long[] { 50, 150, 150 }, 3, 0, payouts);
+		assertPayouts(new long[] { 75, 0, 275 });
+	}
+
+	@Test
+	public void hiLoChipsConservedTest() {
+		Random random = new Random(19);
+		long hiKeys[] = new long[ShowdownResolver.MAX_PLAYERS];
+		long loKeys[] = new long[ShowdownResolver.MAX_PLAYERS];
+		long contributions[] = new long[ShowdownResolver.MAX_PLAYERS];
+		for (int n=0; n<10000; n++) {
+			int players = 2 + random.nextInt(ShowdownResolver.MAX_PLAYERS - 1);
+			long total = 0;
+			for (int p=0; p<players; p++) {
+				hiKeys[p] = p > 0 && random.nextInt(4) == 0 ? F : random.nextInt(5);
+				loKeys[p] = random.nextInt(3);
+				contributions[p] = 1 + random.nextInt(1000);
+				total += contributions[p];
+			}
+			resolver.resolveHiLo(hiKeys, loKeys, contributions, players, random.nextInt(players), payouts);
+			long paid = 0;
+			for (int p=0; p<players; p++) {
+				paid += payouts[p];
+				if (hiKeys[p] == F) assertEquals(0, payouts[p]);
+			}
+			assertEquals(total, paid);
+		}
+	}
+
+
+	private void assertPayouts(long expected[]) {
+		for (int p=0; p<expected.length; p++) {
+			assertEquals("Player "+p, expected[p], payouts[p]);
+		}
+	}
+}
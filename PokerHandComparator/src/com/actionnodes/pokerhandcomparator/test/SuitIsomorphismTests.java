@@ -0,0 +1,175 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.PreflopEquityMatrix;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.SuitIsomorphism;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * SuitIsomorphismTests
+ * This test class checks the numbers of the classes of the starting hands (169), the flops (1,755)
+ * and the starting hands with a flop (1,286,792), the multiplicities against the numbers of all the combinations,
+ * and the indexes of the suit-permuted combinations and of the representatives.
+ */
+public class SuitIsomorphismTests
+{
+	private static final int N = PokerHandEvaluator.CARDS_IN_DECK;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	/**
+	 * This test method indexes all 1,326 starting hands: the classes are the 169 classes of PreflopEquityMatrix.
+	 */
+	@Test
+	public void startingHandsTest() {
+		SuitIsomorphism isomorphism = new SuitIsomorphism(2);
+		assertEquals(169, isomorphism.size());
+		int counts[] = new int[isomorphism.size()];
+		int matrixClasses[] = new int[isomorphism.size()];
+		for (int c1=0; c1<N; c1++)
+		for (int c2=c1+1; c2<N; c2++) {
+			int index = isomorphism.index(new int[] { c2, c1 });
+			assertEquals(index, isomorphism.index(new int[] { c1, c2 }));
+			int matrixClass = PreflopEquityMatrix.classIndex(c1, c2) + 1;
+			if (counts[index]++ == 0) {
+				matrixClasses[index] = matrixClass;
+			}
+			assertEquals(matrixClasses[index], matrixClass);
+		}
+		checkCounts(isomorphism, counts, 1326);
+
+		int aces[] = { PokerHandEvaluator.toCard(Suits.S, Ranks.A), PokerHandEvaluator.toCard(Suits.C, Ranks.A) };
+		assertEquals(6, isomorphism.multiplicity(isomorphism.index(aces)));
+	}
+
+	/**
+	 * This test method indexes all 22,100 flops.
+	 */
+	@Test
+	public void flopsTest() {
+		SuitIsomorphism isomorphism = new SuitIsomorphism(3);
+		assertEquals(1755, isomorphism.size());
+		int counts[] = new int[isomorphism.size()];
+		for (int c1=0; c1<N; c1++)
+		for (int c2=c1+1; c2<N; c2++)
+		for (int c3=c2+1; c3<N; c3++) {
+			counts[isomorphism.index(new int[] { c1, c2, c3 })]++;
+		}
+		checkCounts(isomorphism, counts, 22100);
+	}
+
+	/**
+	 * This test method checks the starting hands with a flop by the sum of the multiplicities,
+	 * and random combinations by their suit permutations.
+	 */
+	@Test
+	public void startingHandsWithFlopTest() {
+		SuitIsomorphism isomorphism = new SuitIsomorphism(2, 3);
+		assertEquals(1286792, isomorphism.size());
+		long combinations = 0;
+		for (int index=0; index<isomorphism.size(); index++) {
+			combinations += isomorphism.multiplicity(index);
+		}
+		assertEquals(1326L * 19600, combinations);
+
+		Random random = new Random(25);
+		int deck[] = TestHands.newDeck();
+		for (int t=0; t<100000; t++) {
+			TestHands.shuffle(random, deck, 5);
+			int cards[] = { deck[0], deck[1], deck[2], deck[3], deck[4] };
+			int index = isomorphism.index(cards);
+			assertEquals(index, isomorphism.index(permuteSuits(cards, random)));
+			assertEquals(index, isomorphism.index(isomorphism.representative(index)));
+		}
+
+		// The hole cards and the flop cards are not interchangeable.
+		int hole[] = { 
+			PokerHandEvaluator.toCard(Suits.S, Ranks.A), PokerHandEvaluator.toCard(Suits.S, Ranks.K),
+			PokerHandEvaluator.toCard(Suits.S, Ranks.D), PokerHandEvaluator.toCard(Suits.S, Ranks.Tr),
+			PokerHandEvaluator.toCard(Suits.H, Ranks.Fr) };
+		int swapped[] = { hole[2], hole[3], hole[0], hole[1], hole[4] };
+		assertNotEquals(isomorphism.index(hole), isomorphism.index(swapped));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateCardTest() {
+		new SuitIsomorphism(3).index(new int[] { 5, 17, 5 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void cardsNumberTest() {
+		new SuitIsomorphism(2).index(new int[] { 5, 17, 30 });
+	}
+
+	@Test
+	public void countClassesTest() {
+		assertEquals(169, SuitIsomorphism.countClasses(2));
+		assertEquals(1755, SuitIsomorphism.countClasses(3));
+		assertEquals(1286792, SuitIsomorphism.countClasses(2, 3));
+		assertEquals(55190538, SuitIsomorphism.countClasses(2, 3, 1));
+		assertEquals(2428287420L, SuitIsomorphism.countClasses(2, 3, 1, 1));
+		assertEquals(new SuitIsomorphism(1, 1).size(), SuitIsomorphism.countClasses(1, 1));
+		assertEquals(new SuitIsomorphism(2, 1, 1).size(), SuitIsomorphism.countClasses(2, 1, 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tooManyClassesTest() {
+		// The 2,428,287,420 classes of the starting hands with a flop, a turn and a river do not fit an int index.
+		new SuitIsomorphism(2, 3, 1, 1);
+	}
+
+
+	/**
+	 * It checks the numbers of the combinations of every class against its multiplicity,
+	 * and the index of the representative of every class.
+	 */
+	private static void checkCounts(SuitIsomorphism isomorphism, int counts[], int combinations) {
+		int sum = 0;
+		for (int index=0; index<counts.length; index++) {
+			assertEquals(counts[index], isomorphism.multiplicity(index));
+			assertEquals(index, isomorphism.index(isomorphism.representative(index)));
+			sum += counts[index];
+		}
+		assertEquals(combinations, sum);
+	}
+
+	private static int[] permuteSuits(int cards[], Random random) {
+		int suits[] = { 0, 1, 2, 3 };
+		TestHands.shuffle(random, suits, 3);
+		int permuted[] = new int[cards.length];
+		for (int i=0; i<cards.length; i++) {
+			permuted[i] = (cards[i] & ~0x3) | suits[cards[i] & 0x3];
+		}
+		return permuted;
+	}
+}
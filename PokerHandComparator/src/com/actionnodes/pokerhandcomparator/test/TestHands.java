@@ -0,0 +1,95 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import java.util.Random;
+
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.Ranks;
+import com.actionnodes.pokerhandcomparator.Suits;
+
+/**
+ * TestHands
+ * The int cards (see PokerHandEvaluator) of the test hands: parsed from their names,
+ * or dealt at random by a partial shuffle of a deck.
+ */
+public class TestHands
+{
+	private static final String RANK_CHARS = "23456789TJQKA";
+
+	/**
+	 * It returns the int card of the suit and rank.
+	 */
+	public static int card(Suits suit, Ranks rank) {
+		return PokerHandEvaluator.toCard(suit, rank);
+	}
+
+	/**
+	 * It returns the int cards of the space-separated suit-rank pairs (e.g. "SA HT D2").
+	 */
+	public static int[] cards(String hand) {
+		String names[] = hand.split(" ");
+		int cards[] = new int[names.length];
+		for (int i=0; i<names.length; i++) {
+			Suits suit = Suits.valueOf(names[i].substring(0, 1));
+			Ranks rank = Ranks.getElemValueByIdx(RANK_CHARS.indexOf(names[i].charAt(1)));
+			cards[i] = PokerHandEvaluator.toCard(suit, rank);
+		}
+		return cards;
+	}
+
+	/**
+	 * It returns the 52 int cards of a full deck, in order.
+	 */
+	public static int[] newDeck() {
+		int deck[] = new int[PokerHandEvaluator.CARDS_IN_DECK];
+		for (int c=0; c<deck.length; c++) deck[c] = c;
+		return deck;
+	}
+
+	/**
+	 * It moves the specified number of random cards of the deck to its beginning (a partial shuffle of the deck).
+	 */
+	public static void shuffle(Random random, int deck[], int cards) {
+		for (int i=0; i<cards; i++) {
+			int j = i + random.nextInt(deck.length - i);
+			int card = deck[i]; deck[i] = deck[j]; deck[j] = card;
+		}
+	}
+
+	/**
+	 * It deals the specified number of random distinct cards of the deck (the deck is not changed).
+	 */
+	public static int[] deal(Random random, int deck[], int cards) {
+		int shuffled[] = deck.clone();
+		shuffle(random, shuffled, cards);
+		int hand[] = new int[cards];
+		System.arraycopy(shuffled, 0, hand, 0, cards);
+		return hand;
+	}
+
+	/**
+	 * It deals the specified number of random distinct cards of a full deck.
+	 */
+	public static int[] deal(Random random, int cards) {
+		return deal(random, newDeck(), cards);
+	}
+
+	/**
+	 * It deals the random 5-card hands into an array of int cards in the column layout after the offset
+	 * (see PokerHandEvaluator.evaluateBatchColumns()).
+	 */
+	public static int[] dealColumns(Random random, int offset, int hands) {
+		int deck[] = newDeck();
+		int cards[] = new int[offset + 5*hands];
+		for (int h=0; h<hands; h++) {
+			shuffle(random, deck, 5);
+			for (int i=0; i<5; i++) {
+				cards[offset + i*hands + h] = deck[i];
+			}
+		}
+		return cards;
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+
+import com.actionnodes.pokerhandcomparator.Card;
+import com.actionnodes.pokerhandcomparator.PokerHand;
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.VectorBatchEvaluator;
+
+/**
+ * VectorBatchEvaluatorTests
+ * This test class checks that the batch evaluation (of the interleaved hands and of the column layout)
+ * agrees exactly with PokerHand, for the batches of any length and offset (the lane groups and the remainder),
+ * and runs VectorBatchKernelTests in a JVM with the Vector API path enabled, so the kernel is always tested.
+ */
+public class VectorBatchEvaluatorTests
+{
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void agreesWithPokerHandTest() {
+		Random random = new Random(21);
+		int hands = 10000;
+		int offset = 3;
+		int cards[] = deal(random, offset, hands);
+		long keys[] = new long[hands];
+		long columnKeys[] = new long[hands];
+		VectorBatchEvaluator.evaluate(cards, offset, hands, keys);
+		int columns[] = new int[offset + 5*hands];
+		for (int h=0; h<hands; h++) {
+			for (int i=0; i<5; i++) {
+				columns[offset + i*hands + h] = cards[offset + 5*h + i];
+			}
+		}
+		VectorBatchEvaluator.evaluateColumns(columns, offset, hands, columnKeys);
+		for (int h=0; h<hands; h++) {
+			int c = offset + 5*h;
+			PokerHand hand = new PokerHand(
+				Card.of(cards[c]), Card.of(cards[c+1]), Card.of(cards[c+2]), Card.of(cards[c+3]), Card.of(cards[c+4]));
+			assertEquals("Hand "+h, hand.getComparator(), keys[h]);
+			assertEquals("Hand "+h, hand.getComparator(), columnKeys[h]);
+		}
+	}
+
+	@Test
+	public void batchLengthsTest() {
+		Random random = new Random(22);
+		for (int hands=0; hands<=40; hands++) {
+			int cards[] = deal(random, 0, hands);
+			long keys[] = new long[hands];
+			VectorBatchEvaluator.evaluate(cards, 0, hands, keys);
+			for (int h=0; h<hands; h++) {
+				int c = 5*h;
+				assertEquals(PokerHandEvaluator.evaluate(cards[c], cards[c+1], cards[c+2], cards[c+3], cards[c+4]), keys[h]);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidHandTest() {
+		// 16 hands, the last one of 5 Aces of Spades.
+		int cards[] = deal(new Random(23), 0, 16);
+		for (int c=75; c<80; c++) cards[c] = 48;
+		VectorBatchEvaluator.evaluate(cards, 0, 16, new long[16]);
+	}
+
+	@Test
+	public void cardOutOfDeckTest() {
+		// The same exception for a card out of the deck in both layouts, by either path of evaluateColumns().
+		for (int card : new int[] {PokerHandEvaluator.CARDS_IN_DECK, -1}) {
+			int cards[] = deal(new Random(24), 0, 3);
+			cards[7] = card;
+			try {
+				VectorBatchEvaluator.evaluate(cards, 0, 3, new long[3]);
+				fail("Card "+card+" is not an int card.");
+			} catch (IllegalArgumentException e) {
+			}
+			try {
+				VectorBatchEvaluator.evaluateColumns(cards, 0, 3, new long[3]);
+				fail("Card "+card+" is not an int card.");
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void batchOutOfBoundsTest() {
+		VectorBatchEvaluator.evaluate(new int[12], 3, 2, new long[2]);
+	}
+
+
+	@Test
+	public void vectorKernelTest() throws Exception {
+		// The kernel runs in a JVM with the incubator module and the Vector API path enabled (and required).
+		ProcessBuilder builder = new ProcessBuilder(
+			System.getProperty("java.home")+File.separator+"bin"+File.separator+"java",
+			"--add-modules", "jdk.incubator.vector",
+			"-D"+VectorBatchEvaluator.VECTOR_PROPERTY+"=true",
+			"-D"+VectorBatchKernelTests.REQUIRED_PROPERTY+"=true",
+			"-cp", System.getProperty("java.class.path"),
+			JUnitCore.class.getName(), VectorBatchKernelTests.class.getName());
+		builder.redirectErrorStream(true);
+		builder.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+		assertEquals("VectorBatchKernelTests failed.", 0, builder.start().waitFor());
+	}
+
+
+	/**
+	 * It deals the random 5-card hands into an array of int cards after the offset.
+	 */
+	private static int[] deal(Random random, int offset, int hands) {
+		int deck[] = TestHands.newDeck();
+		int cards[] = new int[offset + 5*hands];
+		for (int h=0; h<hands; h++) {
+			TestHands.shuffle(random, deck, 5);
+			System.arraycopy(deck, 0, cards, offset + 5*h, 5);
+		}
+		return cards;
+	}
+}
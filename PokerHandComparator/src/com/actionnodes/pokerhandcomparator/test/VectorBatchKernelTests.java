@@ -0,0 +1,109 @@
+/**
+ * @author Arkady Koplyarov (arkad.k@gmail.com)
+ */
+
+package com.actionnodes.pokerhandcomparator.test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.actionnodes.pokerhandcomparator.PokerHandEvaluator;
+import com.actionnodes.pokerhandcomparator.VectorBatchEvaluator;
+
+/**
+ * VectorBatchKernelTests
+ * This test class checks the Vector API path of VectorBatchEvaluator against the scalar column path.
+ * It is skipped unless the Vector API path is used (the JVM is run with --add-modules jdk.incubator.vector
+ * and -Dpokerhandcomparator.vector=true, on a CPU of 8 or more int lanes). If the REQUIRED_PROPERTY system property
+ * is set (VectorBatchEvaluatorTests runs it so in a JVM of its own), it fails if the path is not used
+ * although it is available.
+ */
+public class VectorBatchKernelTests
+{
+	/**
+	 * The system property making the Vector API path required.
+	 */
+	public static final String REQUIRED_PROPERTY = "pokerhandcomparator.vector.required";
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		if (Boolean.getBoolean(REQUIRED_PROPERTY)) {
+			// The module is required, the kernel only if the CPU has 8 or more int lanes.
+			assertTrue("The jdk.incubator.vector module is not there.",
+				ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+			assertEquals("The Vector API path is not used.", VectorBatchEvaluator.isAvailable(), VectorBatchEvaluator.isVectorized());
+		}
+		assumeTrue(VectorBatchEvaluator.isVectorized());
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+	}
+
+	@Before
+	public void setUp() throws Exception {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+	}
+
+
+	@Test
+	public void agreesWithScalarTest() {
+		Random random = new Random(24);
+		int hands = 10000;
+		int offset = 7;
+		int cards[] = TestHands.dealColumns(random, offset, hands);
+		long keys[] = new long[hands];
+		long scalarKeys[] = new long[hands];
+		VectorBatchEvaluator.evaluateColumns(cards, offset, hands, keys);
+		PokerHandEvaluator.evaluateBatchColumns(cards, offset, hands, scalarKeys);
+		assertArrayEquals(scalarKeys, keys);
+	}
+
+	@Test
+	public void batchLengthsTest() {
+		Random random = new Random(25);
+		for (int hands=0; hands<=40; hands++) {
+			int cards[] = TestHands.dealColumns(random, 0, hands);
+			long keys[] = new long[hands];
+			VectorBatchEvaluator.evaluateColumns(cards, 0, hands, keys);
+			for (int h=0; h<hands; h++) {
+				assertEquals(PokerHandEvaluator.evaluate(
+					cards[h], cards[hands+h], cards[2*hands+h], cards[3*hands+h], cards[4*hands+h]), keys[h]);
+			}
+		}
+	}
+
+	@Test
+	public void invalidCardsTest() {
+		// A card out of the deck in the first lane group and in the remainder, and 5 Aces of Spades.
+		for (int invalid : new int[] {PokerHandEvaluator.CARDS_IN_DECK, -1}) {
+			for (int hand : new int[] {5, 33}) {
+				int cards[] = TestHands.dealColumns(new Random(26), 0, 34);
+				cards[3*34 + hand] = invalid;
+				try {
+					VectorBatchEvaluator.evaluateColumns(cards, 0, 34, new long[34]);
+					fail("Card "+invalid+" is not an int card.");
+				} catch (IllegalArgumentException e) {
+				}
+			}
+		}
+		int cards[] = TestHands.dealColumns(new Random(27), 0, 32);
+		for (int i=0; i<5; i++) cards[i*32 + 2] = 48;
+		try {
+			VectorBatchEvaluator.evaluateColumns(cards, 0, 32, new long[32]);
+			fail("5 Aces of Spades are not a hand.");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}